@@ -0,0 +1,62 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.async;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead TenantAwareTaskDecorator adds to an @Async task: capture on submit, restore and clear on run.
+ * "thread-local" captures from TenantContext's thread-local, "scoped" from a ScopedValue binding.
+ * The task runs inline, so executor hand-off is not measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantAwareTaskDecoratorBenchmark {
+
+    @Param({"thread-local", "scoped"})
+    private String context;
+
+    private final TenantAwareTaskDecorator decorator = new TenantAwareTaskDecorator();
+    private final TenantId tenant = TenantId.of("acme-corp");
+
+    @Setup
+    public void setUp() {
+        TenantContext.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Benchmark
+    public void decorateAndRun(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(TenantContext.getTenant());
+        if ("scoped".equals(context)) {
+            TenantContext.runWithTenant(tenant, () -> decorator.decorate(task).run());
+        } else {
+            TenantContext.setTenant(tenant);
+            Runnable decorated = decorator.decorate(task);
+            TenantContext.clear();
+            decorated.run();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.SystemPermission;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemPermissionRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication of a repeated valid bearer token by the tenant and admin JWT filters:
+ * verified-token cache hit, revocation check, tenant check and SecurityContext population.
+ * doFilterInternal is called directly so OncePerRequestFilter bookkeeping does not skip repeat calls.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter tenantFilter;
+    private AdminJwtAuthenticationFilter adminFilter;
+    private MockHttpServletRequest tenantRequest;
+    private MockHttpServletRequest adminRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenService tokenService = JwtTokenServiceBenchmark.newTokenService();
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(tokenService, 1_000);
+        RevocationRegistry revocationRegistry = newRevocationRegistry(1_000);
+        tenantFilter = new JwtAuthenticationFilter(tokenCache, revocationRegistry);
+        PermissionRegistry permissionRegistry = newPermissionRegistry("manage_tenants", "view_tenants", "view_analytics");
+        adminFilter = new AdminJwtAuthenticationFilter(tokenCache, revocationRegistry, permissionRegistry);
+
+        String tenantToken = tokenService.generateToken(
+                "4b1d3c2e-0000-4000-8000-000000000001", "acme-corp", List.of("USER"));
+        tenantRequest = new MockHttpServletRequest("GET", "/api/v1/users");
+        tenantRequest.addHeader("Authorization", "Bearer " + tenantToken);
+
+        String adminToken = tokenService.generateTokenWithPermissionBits(
+                "4b1d3c2e-0000-4000-8000-000000000002", "SYSTEM", List.of("SUPER_ADMIN"),
+                permissionRegistry.encode(List.of("manage_tenants", "view_tenants", "view_analytics")).encode());
+        adminRequest = new MockHttpServletRequest("GET", "/api/v1/admin/tenants");
+        adminRequest.addHeader("Authorization", "Bearer " + adminToken);
+
+        response = new MockHttpServletResponse();
+        TenantContext.setTenant(TenantId.of("acme-corp"));
+    }
+
+    static PermissionRegistry newPermissionRegistry(String... names) {
+        List<SystemPermission> permissions = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            SystemPermission permission = Mockito.mock(SystemPermission.class);
+            Mockito.when(permission.getName()).thenReturn(names[i]);
+            Mockito.when(permission.getBitIndex()).thenReturn(i);
+            permissions.add(permission);
+        }
+        SystemPermissionRepository repository = Mockito.mock(SystemPermissionRepository.class);
+        Mockito.when(repository.findAll()).thenReturn(permissions);
+        PermissionRegistry registry = new PermissionRegistry(repository);
+        registry.reload();
+        return registry;
+    }
+
+    /**
+     * A registry holding epochs for other users, so the revocation check does a real map lookup.
+     */
+    static RevocationRegistry newRevocationRegistry(int revokedUsers) {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Timestamp.class), Mockito.any(), Mockito.any()))
+                .thenReturn(Timestamp.from(Instant.now()));
+        RevocationRegistry registry = new RevocationRegistry(
+                jdbcTemplate, Mockito.mock(InvalidationBus.class), 900, 0);
+        for (int i = 0; i < revokedUsers; i++) {
+            registry.revokeUser("revoked-user-" + i);
+        }
+        return registry;
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Benchmark
+    public Object tenantFilter() throws Exception {
+        tenantFilter.doFilterInternal(tenantRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object adminFilter() throws Exception {
+        adminFilter.doFilterInternal(adminRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,69 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost of JwtTokenService (HS256): jjwt parsing versus the
+ * HMAC fast path behind verify, and the same verification answered by VerifiedTokenCache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-with-at-least-32-chars";
+
+    private JwtTokenService tokenService;
+    private VerifiedTokenCache tokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = newTokenService();
+        token = tokenService.generateToken("4b1d3c2e-0000-4000-8000-000000000001", "acme-corp", List.of("USER"));
+        tokenCache = new VerifiedTokenCache(tokenService, 1_000);
+    }
+
+    static JwtTokenService newTokenService() {
+        return new JwtTokenService(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), 3600);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken("4b1d3c2e-0000-4000-8000-000000000001", "acme-corp", List.of("USER"));
+    }
+
+    @Benchmark
+    public Jws<Claims> parseAndValidate() {
+        return tokenService.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return tokenCache.verify(token);
+    }
+}
@@ -0,0 +1,93 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.TokenBucketLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-key rate limit decisions under contention: the previous fixed-window limiter
+ * ({@code ConcurrentHashMap.compute} per request) against the CAS-based token bucket.
+ * "hot" sends every thread's requests to one client IP (one contended entry);
+ * "spread" draws from a pool of client IPs, as a distributed brute force would.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimitingFilterBenchmark {
+
+    @Param({"hot", "spread"})
+    private String clients;
+
+    private FixedWindowLimiter fixedWindow;
+    private TokenBucketLimiter tokenBucket;
+    private String[] ips;
+
+    @Setup
+    public void setUp() {
+        fixedWindow = new FixedWindowLimiter();
+        tokenBucket = new TokenBucketLimiter(10, Duration.ofMinutes(1), 50_000);
+        int count = "hot".equals(clients) ? 1 : 4096;
+        ips = new String[count];
+        for (int i = 0; i < count; i++) {
+            ips[i] = "10.0." + (i >> 8) + "." + (i & 0xff);
+        }
+    }
+
+    private String nextIp() {
+        return ips.length == 1 ? ips[0] : ips[ThreadLocalRandom.current().nextInt(ips.length)];
+    }
+
+    @Benchmark
+    public boolean fixedWindow() {
+        return fixedWindow.isRateLimited(nextIp());
+    }
+
+    @Benchmark
+    public boolean tokenBucket() {
+        return !tokenBucket.tryAcquire(nextIp()).allowed();
+    }
+
+    /**
+     * The limiter RateLimitingFilter used before token buckets: 10 requests per fixed 60 second window.
+     */
+    static final class FixedWindowLimiter {
+
+        private record Entry(long windowStart, AtomicInteger count) {
+        }
+
+        private final Map<String, Entry> requestCounts = new ConcurrentHashMap<>();
+
+        boolean isRateLimited(String clientIp) {
+            long now = System.currentTimeMillis();
+            Entry entry = requestCounts.compute(clientIp, (ip, existing) -> {
+                if (existing == null || now - existing.windowStart() > 60_000) {
+                    return new Entry(now, new AtomicInteger(1));
+                }
+                existing.count().incrementAndGet();
+                return existing;
+            });
+            return entry.count().get() > 10;
+        }
+    }
+}
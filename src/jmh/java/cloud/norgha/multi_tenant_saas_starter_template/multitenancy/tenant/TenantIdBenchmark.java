@@ -0,0 +1,75 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request tenant handling before and after TenantId.
+ *
+ * Both variants validate the X-Tenant-ID header, look the tenant up in a map (standing in for
+ * the TenantRegistry) and compare it with the tenant claim of the JWT.
+ * Compare gc.alloc.rate.norm (bytes per request) from the GC profiler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantIdBenchmark {
+
+    private static final String TOKEN_TENANT = "acme-corp";
+
+    @Param({"acme-corp", "Acme-Corp"})
+    private String header;
+
+    private Map<String, TenantId> tenants;
+
+    @Setup
+    public void setUp() {
+        tenants = Map.of(TOKEN_TENANT, TenantId.of(TOKEN_TENANT));
+    }
+
+    /**
+     * Previous path: regex validation, unconditional toLowerCase, equalsIgnoreCase.
+     */
+    @Benchmark
+    public boolean legacy() {
+        if (!header.matches("^[a-zA-Z0-9-_]+$")) {
+            throw new IllegalArgumentException(header);
+        }
+        String normalized = header.toLowerCase();
+        if (!tenants.containsKey(normalized)) {
+            throw new IllegalArgumentException(header);
+        }
+        return TOKEN_TENANT.equalsIgnoreCase(normalized);
+    }
+
+    /**
+     * Current path: single-pass validation, canonical instance from the registry map.
+     */
+    @Benchmark
+    public boolean tenantId() {
+        String canonical = TenantId.canonicalize(header);
+        if (canonical == null) {
+            throw new IllegalArgumentException(header);
+        }
+        TenantId tenant = tenants.get(canonical);
+        if (tenant == null) {
+            throw new IllegalArgumentException(header);
+        }
+        return tenant.matches(TOKEN_TENANT);
+    }
+}
@@ -0,0 +1,61 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TenantResolver.resolveTenant for a registered tenant, with the default header strategy.
+ * The registry is populated up front, so no lookup reaches the (mocked) repository.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantResolverBenchmark {
+
+    @Param({"acme-corp", "Acme-Corp"})
+    private String header;
+
+    private TenantResolver resolver;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        TenantRepository repository = Mockito.mock(TenantRepository.class);
+        AsyncLoadingCache<String, TenantSnapshot> cache = Caffeine.newBuilder()
+                .buildAsync(tenantId -> null);
+        TenantRegistry registry = new TenantRegistry(repository, cache, 0, false, 0, 1, 60, 1000, 0);
+        for (int i = 0; i < 1_000; i++) {
+            registry.put(new TenantSnapshot(TenantId.of("tenant-" + i), "Tenant " + i, true, null, null));
+        }
+        registry.put(new TenantSnapshot(TenantId.of("acme-corp"), "Acme", true, null, null));
+
+        resolver = new TenantResolver(registry, List.of(new HeaderTenantResolutionStrategy()), List.of("header"));
+        request = new MockHttpServletRequest();
+        request.addHeader(TenantResolver.TENANT_HEADER, header);
+    }
+
+    @Benchmark
+    public TenantId resolveTenant() {
+        return resolver.resolveTenant(request);
+    }
+}
@@ -0,0 +1,61 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber bookkeeping shared by the bus implementations.
+ */
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<InvalidationEvent.Type, List<Consumer<InvalidationEvent>>> subscribers =
+            new EnumMap<>(InvalidationEvent.Type.class);
+
+    protected AbstractInvalidationBus() {
+        for (InvalidationEvent.Type type : InvalidationEvent.Type.values()) {
+            subscribers.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationEvent.Type type, Consumer<InvalidationEvent> subscriber) {
+        subscribers.get(type).add(subscriber);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Delivers an event to its subscribers. A failing subscriber does not stop the others.
+     */
+    protected void deliver(InvalidationEvent event) {
+        for (Consumer<InvalidationEvent> subscriber : subscribers.get(event.type())) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation subscriber failed for {}: {}", event, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tells every subscriber to drop all state, used when events may have been missed.
+     */
+    protected void deliverFullResync() {
+        for (InvalidationEvent.Type type : InvalidationEvent.Type.values()) {
+            deliver(new InvalidationEvent(type, null, nodeId));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidation bus that only reaches the current JVM.
+ * For single-node deployments and tests; events are delivered to local subscribers after commit.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "in-process")
+public class InProcessInvalidationBus extends AbstractInvalidationBus {
+
+    @Override
+    public void publish(InvalidationEvent.Type type, String key) {
+        InvalidationEvent event = new InvalidationEvent(type, key, nodeId());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(event);
+            }
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations to every application node.
+ * <p>
+ * Publishing inside a transaction only takes effect once it commits; a rolled back change is never broadcast.
+ * The publishing node is expected to update its own caches directly, so subscribers must be idempotent
+ * and may or may not see events from their own node depending on the implementation.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Publishes an invalidation for one entry.
+     *
+     * @param type What kind of state changed
+     * @param key  Identifier of the changed entry
+     */
+    void publish(InvalidationEvent.Type type, String key);
+
+    /**
+     * Registers a subscriber for one event type.
+     * Subscribers run on the bus delivery thread and should return quickly.
+     *
+     * @param type       The event type
+     * @param subscriber Callback for each event
+     */
+    void subscribe(InvalidationEvent.Type type, Consumer<InvalidationEvent> subscriber);
+
+    /**
+     * Gets the identifier of this node, stamped on published events.
+     */
+    String nodeId();
+}
@@ -0,0 +1,36 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+/**
+ * A change that makes cached state stale on every node.
+ *
+ * @param type         What kind of state changed
+ * @param key          Identifier of the changed entry (tenant ID, role or user ID), or null to drop everything of this type
+ * @param originNodeId Node that published the change
+ */
+public record InvalidationEvent(
+        Type type,
+        String key,
+        String originNodeId
+) {
+
+    public enum Type {
+        /** Tenant created, updated or deactivated. Key: tenant ID. */
+        TENANT,
+        /** Roles, permissions or role assignments changed. Key: "role:NAME", "permission:NAME" or "admin:UUID". */
+        RBAC,
+        /** A user or system admin was deactivated. Key: user or admin UUID. */
+        USER_STATUS,
+        /** A revocation epoch moved forward. Key: "USER:subject" or "TENANT:tenant ID". */
+        REVOCATION,
+        /** A login account was locked after repeated failures. Key: "lockedUntilMillis:failures:realm:email". */
+        LOGIN_LOCKOUT
+    }
+
+    /**
+     * Checks whether subscribers should drop all state of this type,
+     * e.g. after the bus reconnects and may have missed events.
+     */
+    public boolean isFullResync() {
+        return key == null;
+    }
+}
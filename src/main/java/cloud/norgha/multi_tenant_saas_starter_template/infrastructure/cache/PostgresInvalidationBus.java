@@ -0,0 +1,149 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Invalidation bus over Postgres LISTEN/NOTIFY.
+ * <p>
+ * Events are sent with pg_notify on the caller's connection, so inside a transaction Postgres only
+ * delivers them on commit. Each node listens on a dedicated connection opened outside the Hikari pool
+ * and delivers events from other nodes to its subscribers. After (re)connecting, subscribers are told
+ * to resync in full, since notifications sent while disconnected are lost.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "postgres", matchIfMissing = true)
+public class PostgresInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    private static final char SEPARATOR = '|';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationBus(
+            DataSource dataSource,
+            @Value("${app.cache.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.cache.invalidation.reconnect-delay-ms:5000}") long reconnectDelayMillis
+    ) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid invalidation channel name: " + channel);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.channel = channel;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(InvalidationEvent.Type type, String key) {
+        String payload = type.name() + SEPARATOR + nodeId() + SEPARATOR + key;
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel '{}'", channel);
+                deliverFullResync();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(10_000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}",
+                            reconnectDelayMillis, ex.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+
+        String origin = payload.substring(first + 1, second);
+        if (origin.equals(nodeId())) {
+            // This node already applied its own change
+            return;
+        }
+
+        InvalidationEvent.Type type;
+        try {
+            type = InvalidationEvent.Type.valueOf(payload.substring(0, first));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring cache invalidation of unknown type: {}", payload);
+            return;
+        }
+        deliver(new InvalidationEvent(type, payload.substring(second + 1), origin));
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
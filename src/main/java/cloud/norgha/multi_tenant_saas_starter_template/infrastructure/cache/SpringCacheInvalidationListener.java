@@ -0,0 +1,39 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.config.CacheConfig;
+import jakarta.annotation.PostConstruct;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts entries from the Spring caches declared in CacheConfig when the bus reports a change.
+ */
+@Component
+public class SpringCacheInvalidationListener {
+
+    private final InvalidationBus invalidationBus;
+    private final CacheManager cacheManager;
+
+    public SpringCacheInvalidationListener(InvalidationBus invalidationBus, CacheManager cacheManager) {
+        this.invalidationBus = invalidationBus;
+        this.cacheManager = cacheManager;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.TENANT, event -> evict(CacheConfig.TENANT_CACHE, event));
+    }
+
+    private void evict(String cacheName, InvalidationEvent event) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (event.isFullResync()) {
+            cache.clear();
+        } else {
+            cache.evict(event.key());
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.config;
 
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cache configuration for the application.
- * Uses Caffeine cache with TTL for tenant validation.
+ * Uses Caffeine cache with a long TTL; entries are evicted cluster-wide through the InvalidationBus.
+ * <p>
+ * Loading caches refresh ahead: once an entry is older than the refresh interval, the next read
+ * returns it immediately and reloads it in the background on a dedicated executor. Concurrent reads
+ * never wait on the same reload. If a reload fails, the old value keeps being served until it
+ * reaches the max-stale age.
  */
 @Configuration
 @EnableCaching
@@ -20,29 +33,83 @@ public class CacheConfig {
     public static final String TENANT_CACHE = "tenants";
     
     /**
-     * TTL in minutes for cached tenant data.
-     * After this time, tenant status will be re-fetched from database.
+     * TTL in minutes for cached data.
+     * Changes are pushed to every node over the InvalidationBus, so the TTL only bounds staleness
+     * if an invalidation is lost.
      */
-    private static final int CACHE_TTL_MINUTES = 5;
+    private static final int CACHE_TTL_MINUTES = 240;
     
     /**
      * Maximum number of cached entries to prevent memory leaks.
      */
     private static final int CACHE_MAX_SIZE = 1000;
 
+    @Value("${app.cache.refresh-after-write-minutes:60}")
+    private long refreshAfterWriteMinutes;
+
+    @Value("${app.cache.max-stale-minutes:240}")
+    private long maxStaleMinutes;
+
+    @Value("${app.cache.refresh-threads:2}")
+    private int refreshThreads;
+
+    /**
+     * Executor for background cache loads, kept apart from request and @Async threads
+     * so a slow database cannot back reloads up into either.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService cacheRefreshExecutor() {
+        return Executors.newFixedThreadPool(refreshThreads,
+                Thread.ofPlatform().name("cache-refresh-", 0).daemon().factory());
+    }
+
+    /**
+     * Single-tenant loads used by the TenantRegistry for misses and cluster invalidations.
+     * A tenant that no longer exists loads as null and is dropped from the cache.
+     */
+    @Bean
+    public AsyncLoadingCache<String, TenantSnapshot> tenantCache(
+            TenantRepository tenantRepository,
+            ExecutorService cacheRefreshExecutor
+    ) {
+        return refreshAhead(cacheRefreshExecutor)
+                .buildAsync((tenantId, executor) -> CompletableFuture.supplyAsync(
+                        () -> tenantRepository.findById(tenantId).map(TenantSnapshot::from).orElse(null),
+                        executor));
+    }
+
     /**
      * Creates a Caffeine-based cache manager with TTL and size limits.
      * This ensures:
      * - Deactivated tenants are not served indefinitely from cache
      * - Memory usage is bounded
+     * The refresh-ahead tenant cache is registered alongside the default caches.
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TENANT_CACHE);
+    @SuppressWarnings("unchecked")
+    public CacheManager cacheManager(AsyncLoadingCache<String, TenantSnapshot> tenantCache) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(CACHE_TTL_MINUTES, TimeUnit.MINUTES)
                 .maximumSize(CACHE_MAX_SIZE)
                 .recordStats());
+        cacheManager.registerCustomCache(TENANT_CACHE, (AsyncCache<Object, Object>) (AsyncCache<?, ?>) tenantCache);
         return cacheManager;
     }
+
+    /**
+     * Builder shared by loading caches: reload in the background after the refresh interval,
+     * serve the last value while a reload is pending or failing, and evict at the max-stale age.
+     */
+    private Caffeine<Object, Object> refreshAhead(ExecutorService executor) {
+        if (maxStaleMinutes <= refreshAfterWriteMinutes) {
+            throw new IllegalStateException("app.cache.max-stale-minutes must be greater than app.cache.refresh-after-write-minutes");
+        }
+        return Caffeine.newBuilder()
+                .executor(executor)
+                .refreshAfterWrite(refreshAfterWriteMinutes, TimeUnit.MINUTES)
+                .expireAfterWrite(maxStaleMinutes, TimeUnit.MINUTES)
+                .maximumSize(CACHE_MAX_SIZE)
+                .recordStats();
+    }
 }
@@ -1,19 +1,65 @@
 package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.config;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashCalibration;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashCalibration.Algorithm;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Locale;
+
 /**
  * Configuration for password encoding.
- * Uses BCrypt with default strength (10 rounds).
+ * Uses BCrypt (or Argon2id) with the cost calibrated at startup to take about
+ * app.security.password.target-hash-ms on this machine, never below the configured minimum.
+ * Hashes with an older algorithm or a lower cost are rehashed on the next successful login.
  */
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    public static final String COST_METER = "auth.password.hash.cost";
+    public static final String DURATION_METER = "auth.password.hash.duration";
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password.algorithm:bcrypt}") String algorithmName,
+            @Value("${app.security.password.calibrate:true}") boolean calibrate,
+            @Value("${app.security.password.target-hash-ms:50}") long targetHashMillis,
+            @Value("${app.security.password.min-cost:10}") int minCost,
+            @Value("${app.security.password.max-cost:16}") int maxCost
+    ) {
+        Algorithm algorithm = Algorithm.valueOf(algorithmName.trim().toUpperCase(Locale.ROOT));
+        PasswordHashCalibration.Result result = PasswordHashCalibration.calibrate(
+                algorithm,
+                Duration.ofMillis(targetHashMillis),
+                minCost,
+                calibrate ? maxCost : minCost,
+                3
+        );
+        log.info("Password hashing uses {} cost {} ({} ms per hash, target {} ms, measured {})",
+                result.algorithm(), result.cost(), result.hashDuration().toMillis(), targetHashMillis,
+                result.measured());
+
+        String algorithmTag = algorithm.id();
+        Gauge.builder(COST_METER, result, PasswordHashCalibration.Result::cost)
+                .description("Cost factor used for new password hashes")
+                .tag("algorithm", algorithmTag)
+                .register(meterRegistry);
+        Gauge.builder(DURATION_METER, result, r -> r.hashDuration().toNanos() / 1e9)
+                .description("Measured time of one password hash at the chosen cost")
+                .baseUnit("seconds")
+                .tag("algorithm", algorithmTag)
+                .register(meterRegistry);
+
+        return PasswordHashCalibration.delegatingEncoder(algorithm, result.cost());
     }
 }
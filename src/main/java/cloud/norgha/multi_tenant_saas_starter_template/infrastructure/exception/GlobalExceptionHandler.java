@@ -4,6 +4,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -109,6 +110,27 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handles a tenant that could not be checked against the database.
+     */
+    @ExceptionHandler(TenantLookupUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleTenantLookupUnavailableException(
+            TenantLookupUnavailableException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Tenant lookup unavailable: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable",
+                        ex.getMessage(),
+                        request.getRequestURI()
+                ));
+    }
+
     /**
      * Handles deactivated tenant.
      */
@@ -149,6 +171,48 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handles logins to an account locked after repeated failures.
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ApiErrorResponse> handleLoginThrottledException(
+            LoginThrottledException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Login throttled: {}", request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(
+                        HttpStatus.TOO_MANY_REQUESTS.value(),
+                        "Too Many Requests",
+                        ex.getMessage(),
+                        request.getRequestURI()
+                ));
+    }
+
+    /**
+     * Handles a full password hashing queue.
+     */
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingOverloadedException(
+            PasswordHashingOverloadedException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Password hashing overloaded: {}", request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable",
+                        ex.getMessage(),
+                        request.getRequestURI()
+                ));
+    }
+
     /**
      * Handles access denied (insufficient permissions).
      */
@@ -0,0 +1,18 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception;
+
+/**
+ * Exception thrown when a login targets an account locked after repeated failed attempts.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("Too many failed login attempts. Try again later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception;
+
+/**
+ * Exception thrown when the password hashing pool has no room for another operation.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingOverloadedException(long retryAfterSeconds) {
+        super("Authentication is temporarily overloaded, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
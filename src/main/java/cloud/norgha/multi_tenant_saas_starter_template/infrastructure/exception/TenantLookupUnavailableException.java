@@ -0,0 +1,19 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception;
+
+/**
+ * Exception thrown when a tenant is not in memory (or its snapshot is too stale to serve) and the
+ * database cannot be asked right now, so it is unknown whether the tenant exists.
+ */
+public class TenantLookupUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TenantLookupUnavailableException(String tenantId, long retryAfterSeconds) {
+        super("Tenant could not be verified, please retry shortly: " + tenantId);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,29 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Outcome of checking a password against its stored hash on the hashing pool.
+ *
+ * @param matches  Whether the password matched
+ * @param rehashed A fresh hash to store when the old one uses an outdated algorithm or cost, otherwise null
+ */
+public record PasswordCheck(boolean matches, String rehashed) {
+
+    /**
+     * Checks a password and, when it matches an outdated hash, hashes it again while it is at hand.
+     * Meant to run as a {@link PasswordHashingExecutor} operation.
+     *
+     * @param passwordEncoder The encoder
+     * @param password        The presented password
+     * @param passwordHash    The stored hash
+     * @return The outcome of the check
+     */
+    public static PasswordCheck of(PasswordEncoder passwordEncoder, String password, String passwordHash) {
+        if (!passwordEncoder.matches(password, passwordHash)) {
+            return new PasswordCheck(false, null);
+        }
+        String rehashed = passwordEncoder.upgradeEncoding(passwordHash) ? passwordEncoder.encode(password) : null;
+        return new PasswordCheck(true, rehashed);
+    }
+}
@@ -0,0 +1,144 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Picks the password hashing cost that takes closest to a target time on this machine.
+ * <p>
+ * The cost is the BCrypt log2 rounds or the Argon2 iteration count. Costs are tried upwards from
+ * the minimum, timing the median of a few hashes each, until one reaches the target; the cost
+ * whose time is nearest the target on a log scale wins. The minimum is a security floor and is
+ * used even on hardware too slow to meet the target.
+ */
+public final class PasswordHashCalibration {
+
+    /**
+     * Supported hashing algorithms, with the {@link DelegatingPasswordEncoder} ID of each.
+     */
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        ARGON2("argon2");
+
+        private final String id;
+
+        Algorithm(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    /** Argon2id memory per hash (19 MiB) and parallelism, per the OWASP baseline. */
+    static final int ARGON2_MEMORY_KIB = 19 * 1024;
+    static final int ARGON2_PARALLELISM = 1;
+
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-9";
+
+    /**
+     * Outcome of a calibration.
+     *
+     * @param algorithm      Algorithm used for new hashes
+     * @param cost           Chosen cost factor
+     * @param hashDuration   Median time of one hash at the chosen cost
+     * @param measured       Median time for every cost tried, in trial order
+     */
+    public record Result(Algorithm algorithm, int cost, Duration hashDuration, Map<Integer, Duration> measured) {
+    }
+
+    private PasswordHashCalibration() {
+    }
+
+    /**
+     * Benchmarks increasing costs until one takes at least the target time.
+     *
+     * @param algorithm Algorithm to calibrate
+     * @param target    Desired time for one hash
+     * @param minCost   Lowest acceptable cost
+     * @param maxCost   Highest cost to try
+     * @param samples   Hashes timed per cost (the median is used)
+     * @return The chosen cost and the timings measured
+     */
+    public static Result calibrate(Algorithm algorithm, Duration target, int minCost, int maxCost, int samples) {
+        long targetNanos = target.toNanos();
+        Map<Integer, Duration> measured = new LinkedHashMap<>();
+        int best = minCost;
+        long bestNanos = Long.MAX_VALUE;
+
+        for (int cost = minCost; cost <= Math.max(minCost, maxCost); cost++) {
+            long nanos = medianHashNanos(encoderFor(algorithm, cost), samples);
+            measured.put(cost, Duration.ofNanos(nanos));
+
+            if (bestNanos == Long.MAX_VALUE || distance(nanos, targetNanos) < distance(bestNanos, targetNanos)) {
+                best = cost;
+                bestNanos = nanos;
+            }
+            if (nanos >= targetNanos) {
+                break;
+            }
+        }
+        return new Result(algorithm, best, Duration.ofNanos(bestNanos), Collections.unmodifiableMap(measured));
+    }
+
+    /**
+     * Builds the application's encoder: new hashes use the calibrated algorithm and cost, while
+     * hashes from either algorithm, and legacy BCrypt hashes without an ID prefix, still match.
+     * {@link PasswordEncoder#upgradeEncoding} reports hashes with another algorithm or a lower cost.
+     *
+     * @param algorithm Algorithm for new hashes
+     * @param cost      Cost for new hashes
+     * @return The delegating encoder
+     */
+    public static PasswordEncoder delegatingEncoder(Algorithm algorithm, int cost) {
+        PasswordEncoder bcrypt = algorithm == Algorithm.BCRYPT
+                ? encoderFor(Algorithm.BCRYPT, cost)
+                : new BCryptPasswordEncoder();
+        PasswordEncoder argon2 = algorithm == Algorithm.ARGON2
+                ? encoderFor(Algorithm.ARGON2, cost)
+                : Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(Algorithm.BCRYPT.id(), bcrypt);
+        encoders.put(Algorithm.ARGON2.id(), argon2);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm.id(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    static PasswordEncoder encoderFor(Algorithm algorithm, int cost) {
+        return switch (algorithm) {
+            case BCRYPT -> new BCryptPasswordEncoder(cost);
+            case ARGON2 -> new Argon2PasswordEncoder(16, 32, ARGON2_PARALLELISM, ARGON2_MEMORY_KIB, cost);
+        };
+    }
+
+    private static long medianHashNanos(PasswordEncoder encoder, int samples) {
+        // One untimed hash so class loading and JIT warm-up don't count
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] nanos = new long[Math.max(1, samples)];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2];
+    }
+
+    private static double distance(long nanos, long targetNanos) {
+        return Math.abs(Math.log((double) Math.max(nanos, 1) / Math.max(targetNanos, 1)));
+    }
+}
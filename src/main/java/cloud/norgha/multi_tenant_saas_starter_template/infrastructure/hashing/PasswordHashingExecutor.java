@@ -0,0 +1,109 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.PasswordHashingOverloadedException;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.async.TenantAwareTaskDecorator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool for operations that hash or verify passwords.
+ * <p>
+ * BCrypt is deliberately slow, so running it on servlet threads lets a burst of logins occupy
+ * every worker and stall unrelated requests. Controllers hand such operations to this pool and
+ * return the future, releasing the servlet thread until the result is ready. The pool has one
+ * thread per core and a bounded queue; once the queue is full new work is turned away at once
+ * with {@link PasswordHashingOverloadedException} instead of queueing without limit.
+ * The caller's tenant context is carried into the task.
+ * <p>
+ * Submit only the hashing itself. Futures are completed on a virtual thread rather than on the
+ * hashing thread, so stages that continue with database work never hold a hashing thread.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService continuations = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("password-hashing-continuation-", 0).factory());
+    private final TaskDecorator taskDecorator = new TenantAwareTaskDecorator();
+    private final long retryAfterSeconds;
+
+    public PasswordHashingExecutor(
+            @Value("${app.security.hashing.threads:0}") int threads,
+            @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.retryAfterSeconds = retryAfterSeconds;
+        log.info("Password hashing pool started with {} threads and {} queued tasks", poolSize, queueCapacity);
+    }
+
+    /**
+     * Runs an operation that hashes or verifies a password on the hashing pool.
+     *
+     * @param operation The operation, run with the caller's tenant context
+     * @return A future completed with the operation's result or the exception it threw, on a
+     *         virtual thread that also carries the caller's tenant context
+     * @throws PasswordHashingOverloadedException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Decorate both tasks now, while the caller's tenant context is current
+        AtomicReference<Runnable> outcome = new AtomicReference<>();
+        Runnable complete = taskDecorator.decorate(() -> outcome.get().run());
+        Runnable task = taskDecorator.decorate(() -> {
+            try {
+                T value = operation.get();
+                outcome.set(() -> result.complete(value));
+            } catch (Throwable ex) {
+                outcome.set(() -> result.completeExceptionally(ex));
+            }
+            continuations.execute(complete);
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Password hashing queue is full, shedding request");
+            throw new PasswordHashingOverloadedException(retryAfterSeconds);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of operations waiting for a hashing thread.
+     */
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        continuations.shutdown();
+    }
+}
@@ -0,0 +1,190 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares token bucket consumption between nodes, so a limit holds for the cluster rather than per node.
+ * <p>
+ * Requests only ever touch the local {@link TokenBucketLimiter}. Every sync interval a background thread
+ * upserts the tokens this node took per key, in one batch, into the UNLOGGED {@code rate_limit_counters}
+ * table (cumulative per node), then reads the rows other nodes changed recently and takes the growth of
+ * each node's counter from the local bucket. Between syncs each node enforces the limit on its own, so
+ * across N nodes a client can overshoot by at most what N - 1 nodes allow it within one interval plus
+ * the database round trip: a shorter interval is more accurate and costs more queries.
+ * An interval of 0 keeps every limiter node-local.
+ * <p>
+ * Keys are at most {@value TokenBucketLimiter#MAX_KEY_LENGTH} characters (longer ones arrive already digested),
+ * well within the {@code rate_key} column. A flush that fails anyway is logged and the pull still runs,
+ * so this node keeps applying the other nodes' consumption.
+ */
+@Component
+public class ClusterRateLimitSync {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRateLimitSync.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO rate_limit_counters (rule, rate_key, node_id, tokens)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (rule, rate_key, node_id)
+            DO UPDATE SET tokens = rate_limit_counters.tokens + EXCLUDED.tokens, updated_at = now()
+            """;
+
+    private static final String CHANGED_SQL = """
+            SELECT rule, rate_key, node_id, tokens, created_at >= now() - ? * INTERVAL '1 millisecond' AS fresh
+            FROM rate_limit_counters
+            WHERE node_id <> ? AND updated_at >= now() - ? * INTERVAL '1 millisecond'
+            """;
+
+    // Prune rows idle for a whole period once a minute or so, not on every sync
+    private static final long PRUNE_EVERY_MILLIS = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long syncIntervalMillis;
+    private final UUID nodeId = UUID.randomUUID();
+    private final Map<String, TokenBucketLimiter> limiters = new ConcurrentHashMap<>();
+
+    // Last counter value seen per other node's row, to apply only its growth
+    private final Cache<String, Long> seen;
+
+    private ScheduledExecutorService syncer;
+    private long lastPruneMillis;
+
+    public ClusterRateLimitSync(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.security.rate-limit.cluster.sync-interval-ms:1000}") long syncIntervalMillis,
+            @Value("${app.security.rate-limit.max-keys:50000}") long maxKeys
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.seen = Caffeine.newBuilder()
+                .maximumSize(maxKeys * 4)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            log.info("Rate limits are enforced per node (cluster sync disabled)");
+            return;
+        }
+        syncer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rate-limit-sync").daemon().factory());
+        syncer.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return syncIntervalMillis > 0;
+    }
+
+    /**
+     * Shares a limiter with the other nodes under a rule name that is the same on every node.
+     */
+    public void register(String rule, TokenBucketLimiter limiter) {
+        if (!isEnabled()) {
+            return;
+        }
+        limiter.enableConsumptionCounting();
+        limiters.put(rule, limiter);
+    }
+
+    /**
+     * Flushes this node's consumption and applies everyone else's.
+     */
+    public void sync() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            // This node's tokens for the interval are lost; other nodes' consumption still applies
+            log.warn("Failed to flush rate limit consumption: {}", ex.getMessage());
+        }
+        pull();
+
+        long now = System.currentTimeMillis();
+        if (now - lastPruneMillis >= PRUNE_EVERY_MILLIS) {
+            lastPruneMillis = now;
+            prune();
+        }
+    }
+
+    private void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        limiters.forEach((rule, limiter) -> limiter.drainConsumed()
+                .forEach((key, tokens) -> batch.add(new Object[]{rule, key, nodeId, tokens})));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+    }
+
+    private void pull() {
+        // Look back two intervals, so a row committed during the previous read is not missed
+        long lookback = syncIntervalMillis * 2;
+        jdbcTemplate.query(CHANGED_SQL, rs -> {
+            TokenBucketLimiter limiter = limiters.get(rs.getString(1));
+            if (limiter == null) {
+                return;
+            }
+            String key = rs.getString(2);
+            String row = rs.getString(1) + '|' + rs.getString(3) + '|' + key;
+            long tokens = rs.getLong(4);
+
+            Long previous = seen.getIfPresent(row);
+            seen.put(row, tokens);
+            long growth;
+            if (previous != null) {
+                // A counter that went down was pruned and recreated
+                growth = tokens >= previous ? tokens - previous : tokens;
+            } else {
+                // A row first seen here counts in full only if it is new; an older one just sets the baseline
+                growth = rs.getBoolean(5) ? tokens : 0;
+            }
+            limiter.applyRemote(key, growth);
+        }, lookback, nodeId, lookback);
+    }
+
+    private void prune() {
+        long longestPeriod = limiters.values().stream()
+                .mapToLong(limiter -> limiter.getPeriod().toMillis())
+                .max()
+                .orElse(0);
+        int removed = jdbcTemplate.update(
+                "DELETE FROM rate_limit_counters WHERE updated_at < now() - ? * INTERVAL '1 millisecond'",
+                longestPeriod + syncIntervalMillis * 2);
+        if (removed > 0) {
+            log.debug("Pruned {} idle rate limit counters", removed);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to sync rate limits with other nodes: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Progressive lockout of login accounts after repeated failed passwords.
+ * <p>
+ * Failures are counted per account, keyed by tenant (or the system admin realm) and email. After
+ * {@code max-failures} failures the account is locked for {@code base-lockout}, doubling with every
+ * further failure up to {@code max-lockout}. A locked account is turned away by
+ * {@link #lockedForSeconds} before the password hash is looked at, so an attack on one account
+ * costs a map lookup per attempt rather than a hash verification, whichever IPs it comes from.
+ * A successful login clears the count; otherwise it is forgotten {@code failure-window} after the
+ * last failure or the end of the lockout.
+ * <p>
+ * Counters live in a size-capped Caffeine cache, so memory stays bounded however many emails an
+ * attacker sprays. With cluster sync enabled, every lockout is broadcast over the
+ * {@link InvalidationBus} and applied on the other nodes; failure counts below the threshold stay local.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptThrottle.class);
+
+    private static final String SYSTEM_REALM = "system";
+
+    /**
+     * Failures since the last success and the wall-clock end of the current lockout (0 = not locked).
+     * Wall-clock time so lockouts mean the same on every node.
+     */
+    record State(int failures, long lockedUntilMillis) {
+    }
+
+    private final InvalidationBus invalidationBus;
+    private final int maxFailures;
+    private final long baseLockoutMillis;
+    private final long maxLockoutMillis;
+    private final long failureWindowMillis;
+    private final boolean clusterSync;
+    private final Cache<String, State> accounts;
+
+    public LoginAttemptThrottle(
+            InvalidationBus invalidationBus,
+            @Value("${app.security.login-throttle.max-failures:5}") int maxFailures,
+            @Value("${app.security.login-throttle.base-lockout-seconds:30}") long baseLockoutSeconds,
+            @Value("${app.security.login-throttle.max-lockout-seconds:900}") long maxLockoutSeconds,
+            @Value("${app.security.login-throttle.failure-window-seconds:900}") long failureWindowSeconds,
+            @Value("${app.security.login-throttle.max-keys:50000}") long maxKeys,
+            @Value("${app.security.login-throttle.cluster-sync:true}") boolean clusterSync
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.maxFailures = Math.max(1, maxFailures);
+        this.baseLockoutMillis = Duration.ofSeconds(baseLockoutSeconds).toMillis();
+        this.maxLockoutMillis = Math.max(baseLockoutMillis, Duration.ofSeconds(maxLockoutSeconds).toMillis());
+        this.failureWindowMillis = Duration.ofSeconds(failureWindowSeconds).toMillis();
+        this.clusterSync = clusterSync && invalidationBus != null;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(Expiry.writing((String key, State state) -> Duration.ofMillis(
+                        Math.max(state.lockedUntilMillis() - System.currentTimeMillis(), 0) + failureWindowMillis)))
+                .build();
+    }
+
+    /**
+     * Builds the throttle key for a login.
+     *
+     * @param tenantId The tenant ID, or null for system admin logins
+     * @param email    The email as submitted
+     * @return The key, with the email normalised
+     */
+    public static String key(String tenantId, String email) {
+        return (tenantId == null ? SYSTEM_REALM : tenantId) + ":" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks whether an account is locked.
+     *
+     * @param key The throttle key
+     * @return Seconds until the lockout ends, or 0 if a login may be attempted
+     */
+    public long lockedForSeconds(String key) {
+        State state = accounts.getIfPresent(key);
+        if (state == null) {
+            return 0;
+        }
+        long remaining = state.lockedUntilMillis() - System.currentTimeMillis();
+        return remaining > 0 ? (remaining + 999) / 1000 : 0;
+    }
+
+    /**
+     * Records a failed password (or unknown email), locking the account once the threshold is reached.
+     *
+     * @param key The throttle key
+     */
+    public void recordFailure(String key) {
+        State state = accounts.asMap().compute(key, (k, current) -> {
+            int failures = current == null ? 1 : current.failures() + 1;
+            long lockedUntil = current == null ? 0 : current.lockedUntilMillis();
+            if (failures >= maxFailures) {
+                lockedUntil = Math.max(lockedUntil, System.currentTimeMillis() + lockoutMillis(failures));
+            }
+            return new State(failures, lockedUntil);
+        });
+
+        if (state.failures() >= maxFailures) {
+            log.warn("Login locked for {} s after {} failures", lockedForSeconds(key), state.failures());
+            if (clusterSync) {
+                invalidationBus.publish(InvalidationEvent.Type.LOGIN_LOCKOUT,
+                        state.lockedUntilMillis() + ":" + state.failures() + ":" + key);
+            }
+        }
+    }
+
+    /**
+     * Clears the failure count after a successful login.
+     *
+     * @param key The throttle key
+     */
+    public void recordSuccess(String key) {
+        accounts.invalidate(key);
+    }
+
+    /**
+     * Applies a lockout broadcast by another node, keeping whichever lockout ends later.
+     *
+     * @param key               The throttle key
+     * @param failures          Failures counted on the other node
+     * @param lockedUntilMillis Wall-clock end of the lockout
+     */
+    public void applyRemote(String key, int failures, long lockedUntilMillis) {
+        if (lockedUntilMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        accounts.asMap().merge(key, new State(failures, lockedUntilMillis), (current, remote) -> new State(
+                Math.max(current.failures(), remote.failures()),
+                Math.max(current.lockedUntilMillis(), remote.lockedUntilMillis())
+        ));
+    }
+
+    /**
+     * Gets the number of accounts currently tracked.
+     */
+    public long size() {
+        accounts.cleanUp();
+        return accounts.estimatedSize();
+    }
+
+    private long lockoutMillis(int failures) {
+        int doublings = Math.min(failures - maxFailures, 30);
+        return Math.min(baseLockoutMillis << doublings, maxLockoutMillis);
+    }
+}
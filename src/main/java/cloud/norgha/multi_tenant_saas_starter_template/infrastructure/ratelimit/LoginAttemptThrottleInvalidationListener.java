@@ -0,0 +1,51 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies login lockouts from other nodes to the local LoginAttemptThrottle.
+ * Lockouts are short-lived and not persisted, so a full resync has nothing to reload.
+ */
+@Component
+public class LoginAttemptThrottleInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptThrottleInvalidationListener.class);
+
+    private final InvalidationBus invalidationBus;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    public LoginAttemptThrottleInvalidationListener(
+            InvalidationBus invalidationBus,
+            LoginAttemptThrottle loginAttemptThrottle
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.LOGIN_LOCKOUT, this::onLockout);
+    }
+
+    private void onLockout(InvalidationEvent event) {
+        if (event.isFullResync()) {
+            return;
+        }
+
+        String key = event.key();
+        int first = key.indexOf(':');
+        int second = key.indexOf(':', first + 1);
+        try {
+            long lockedUntilMillis = Long.parseLong(key.substring(0, first));
+            int failures = Integer.parseInt(key.substring(first + 1, second));
+            loginAttemptThrottle.applyRemote(key.substring(second + 1), failures, lockedUntilMillis);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            log.warn("Ignoring malformed login lockout event key: {}", key);
+        }
+    }
+}
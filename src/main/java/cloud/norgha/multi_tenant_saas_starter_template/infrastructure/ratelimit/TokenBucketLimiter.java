@@ -0,0 +1,240 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket per key: {@code capacity} tokens, refilled evenly over {@code period},
+ * for at most {@code maxKeys} keys at a time.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival time (the GCRA form of a
+ * token bucket): the instant at which the bucket would be full again. Taking a token advances it by one
+ * refill interval, and is allowed while it stays within {@code capacity} intervals of now. Updates are a
+ * CAS loop on that one long, so contending requests for the same key never block each other. Unlike a
+ * fixed window there is no edge at which a client can spend two windows' worth of requests back to back.
+ * <p>
+ * Buckets live in a size-capped Caffeine (W-TinyLFU) cache, so memory stays bounded however many
+ * distinct keys a client rotates through. A bucket idle for a whole period is full again and expires.
+ * Error bounds: a key is never limited wrongly; a limit can only be missed for a key whose bucket was
+ * evicted while more than {@code maxKeys} keys were active, which then starts over with a full bucket.
+ * <p>
+ * Keys that run out of tokens are also pinned in a separate tier of up to {@code maxKeys / 10} buckets,
+ * outside the cache's eviction, until their bucket is full again. A client being limited (such as one
+ * hammering a login) therefore stays limited however many one-off keys a spray pushes through the cache;
+ * only beyond that many limited keys at once does the eviction bound above apply to them as well.
+ * <p>
+ * Keys come from clients (an email from the request body, a forwarded IP header), so keys longer than
+ * {@value #MAX_KEY_LENGTH} characters are replaced by their SHA-256. That bounds what each bucket holds,
+ * in memory and in {@code rate_limit_counters}; the same key always maps to the same bucket.
+ * <p>
+ * When shared through {@link ClusterRateLimitSync}, the limiter also counts the tokens it hands out
+ * (see {@link #drainConsumed()}) and takes tokens for what other nodes spent ({@link #applyRemote}).
+ */
+public class TokenBucketLimiter {
+
+    /**
+     * Outcome of one acquire, with what a client needs for {@code RateLimit-*} headers.
+     *
+     * @param allowed    Whether a token was taken
+     * @param limit      Bucket capacity
+     * @param remaining  Tokens left after this request
+     * @param resetNanos Time until the bucket is full again, or until the next token if denied
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetNanos) {
+
+        public long resetSeconds() {
+            return (resetNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    static final int MAX_KEY_LENGTH = 128;
+
+    private final long capacity;
+    private final Duration period;
+    private final long maxKeys;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    // Buckets that ran empty, kept out of the cache's eviction until they are full again
+    private final Map<String, AtomicLong> limited = new ConcurrentHashMap<>();
+    private final int maxLimitedKeys;
+    private final AtomicLong nextLimitedSweep = new AtomicLong();
+
+    // Tokens taken since the last drain, only counted while the limiter is shared with other nodes
+    private final Map<String, LongAdder> consumed = new ConcurrentHashMap<>();
+    private volatile boolean countConsumed;
+
+    public TokenBucketLimiter(long capacity, Duration period, long maxKeys) {
+        if (capacity <= 0 || period.isNegative() || period.isZero() || maxKeys <= 0) {
+            throw new IllegalArgumentException("Token bucket needs a positive capacity, period and key limit");
+        }
+        this.capacity = capacity;
+        this.period = period;
+        this.maxKeys = maxKeys;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+        this.maxLimitedKeys = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxKeys / 10));
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    public Decision tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    Decision tryAcquire(String key, long now) {
+        key = compactKey(key);
+        AtomicLong bucket = bucket(key, now);
+
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            long next = start + intervalNanos;
+
+            if (next - now > burstNanos) {
+                pin(key, bucket, now);
+                return new Decision(false, capacity, 0, next - burstNanos - now);
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                if (countConsumed) {
+                    countConsumed(key);
+                }
+                return new Decision(true, capacity, (burstNanos - (next - now)) / intervalNanos, next - now);
+            }
+        }
+    }
+
+    /**
+     * Starts counting the tokens taken per key, for {@link #drainConsumed()}.
+     */
+    public void enableConsumptionCounting() {
+        countConsumed = true;
+    }
+
+    /**
+     * Returns the tokens taken per key since the previous call and starts counting afresh.
+     * A token taken while its key is being drained may be missed; the sync tolerates that imprecision.
+     */
+    public Map<String, Long> drainConsumed() {
+        Map<String, Long> drained = new HashMap<>();
+        consumed.forEach((key, adder) -> {
+            consumed.remove(key, adder);
+            long tokens = adder.sum();
+            if (tokens > 0) {
+                drained.put(key, tokens);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * Takes tokens spent for a key on another node, leaving the bucket empty at worst.
+     * Never counted as local consumption.
+     */
+    public void applyRemote(String key, long tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        key = compactKey(key);
+        AtomicLong bucket = bucket(key, now);
+        long advance = Math.min(tokens, capacity) * intervalNanos;
+
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            long next = start + advance - now > burstNanos ? now + burstNanos : start + advance;
+            if (next == tat || bucket.compareAndSet(tat, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces an over-long key by "sha256:" and its hex digest, which is itself short enough to be left alone,
+     * so keys coming back from other nodes map to the same bucket.
+     */
+    static String compactKey(String key) {
+        if (key.length() <= MAX_KEY_LENGTH) {
+            return key;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return "sha256:" + HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = limited.get(key);
+        if (bucket == null) {
+            bucket = buckets.getIfPresent(key);
+        }
+        return bucket != null ? bucket : buckets.get(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * Pins an empty bucket so eviction cannot hand its key a full one.
+     * When the tier is full, buckets that have refilled since are dropped first, at most once per refill interval.
+     */
+    private void pin(String key, AtomicLong bucket, long now) {
+        if (limited.get(key) == bucket) {
+            return;
+        }
+        if (limited.size() >= maxLimitedKeys) {
+            long sweep = nextLimitedSweep.get();
+            if (now - sweep >= 0 && nextLimitedSweep.compareAndSet(sweep, now + intervalNanos)) {
+                limited.values().removeIf(pinned -> pinned.get() - now <= 0);
+            }
+            if (limited.size() >= maxLimitedKeys) {
+                return;
+            }
+        }
+        limited.putIfAbsent(key, bucket);
+    }
+
+    private void countConsumed(String key) {
+        LongAdder adder = consumed.get(key);
+        if (adder == null) {
+            // Bounded like the buckets; beyond it a spray of keys simply isn't shared
+            if (consumed.size() >= maxKeys) {
+                return;
+            }
+            adder = consumed.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Number of keys holding a bucket in the cache; never more than {@code maxKeys} once maintenance has run.
+     * Pinned buckets of limited keys come on top, up to {@code maxKeys / 10}.
+     */
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
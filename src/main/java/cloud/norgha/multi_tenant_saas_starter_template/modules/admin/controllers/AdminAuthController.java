@@ -3,6 +3,7 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.controller
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.AdminLoginRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.AdminAuthService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * REST controller for system admin authentication.
  * Does NOT require X-Tenant-ID header.
@@ -33,8 +36,20 @@ public class AdminAuthController {
      * @return JWT token response
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody AdminLoginRequestDto request) {
-        AuthResponseDto response = adminAuthService.login(request);
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> login(@Valid @RequestBody AdminLoginRequestDto request) {
+        return adminAuthService.login(request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Exchanges a system admin refresh token for a new JWT token and refresh token.
+     *
+     * @param request Current refresh token
+     * @return JWT token response
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        AuthResponseDto response = adminAuthService.refresh(request);
         return ResponseEntity.ok(response);
     }
 }
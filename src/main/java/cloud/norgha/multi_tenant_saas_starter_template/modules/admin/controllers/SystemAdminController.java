@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for system admin management.
@@ -40,9 +41,9 @@ public class SystemAdminController {
      */
     @PostMapping
     @PreAuthorize("hasAuthority('manage_admins')")
-    public ResponseEntity<AdminResponseDto> createAdmin(@Valid @RequestBody CreateAdminRequestDto request) {
-        AdminResponseDto response = adminService.createAdmin(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<AdminResponseDto>> createAdmin(@Valid @RequestBody CreateAdminRequestDto request) {
+        return adminService.createAdmin(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     /**
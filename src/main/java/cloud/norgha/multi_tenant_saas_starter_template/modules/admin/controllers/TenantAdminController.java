@@ -2,8 +2,10 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.controller
 
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreateTenantRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantStatsResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.UpdateTenantRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantService;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -30,9 +32,11 @@ import java.util.List;
 public class TenantAdminController {
 
     private final TenantService tenantService;
+    private final TenantStatsService tenantStatsService;
 
-    public TenantAdminController(TenantService tenantService) {
+    public TenantAdminController(TenantService tenantService, TenantStatsService tenantStatsService) {
         this.tenantService = tenantService;
+        this.tenantStatsService = tenantStatsService;
     }
 
     /**
@@ -68,6 +72,26 @@ public class TenantAdminController {
         return ResponseEntity.ok(tenant);
     }
 
+    /**
+     * Lists the user counts of every tenant.
+     * Requires: view_tenants permission
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasAuthority('view_tenants')")
+    public ResponseEntity<List<TenantStatsResponseDto>> listTenantStats() {
+        return ResponseEntity.ok(tenantStatsService.listStats());
+    }
+
+    /**
+     * Gets the user counts of a tenant.
+     * Requires: view_tenants permission
+     */
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasAuthority('view_tenants')")
+    public ResponseEntity<TenantStatsResponseDto> getTenantStats(@PathVariable String id) {
+        return ResponseEntity.ok(tenantStatsService.getStats(id));
+    }
+
     /**
      * Updates a tenant.
      * Requires: manage_tenants permission
@@ -0,0 +1,48 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.controllers;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantUsageResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics.TenantMetrics;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for per-tenant usage metrics.
+ * Requires SYSTEM_ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/metrics")
+@Tag(name = "Tenant Metrics", description = "Request volume, errors and latency of the busiest tenants")
+public class TenantMetricsController {
+
+    private final TenantMetrics tenantMetrics;
+
+    public TenantMetricsController(TenantMetrics tenantMetrics) {
+        this.tenantMetrics = tenantMetrics;
+    }
+
+    /**
+     * Lists metrics for the top-K tenants, busiest first, followed by the "other" bucket.
+     * Requires: view_analytics permission
+     */
+    @GetMapping("/tenants")
+    @PreAuthorize("hasAuthority('view_analytics')")
+    public ResponseEntity<List<TenantUsageResponseDto>> getTenantUsage() {
+        List<TenantUsageResponseDto> usage = tenantMetrics.usage().stream()
+                .map(u -> new TenantUsageResponseDto(
+                        u.tenantId(),
+                        u.estimatedRecentRequests(),
+                        u.requests(),
+                        u.errors(),
+                        u.meanLatencyMs(),
+                        u.maxLatencyMs(),
+                        u.p99LatencyMs()))
+                .toList();
+        return ResponseEntity.ok(usage);
+    }
+}
@@ -1,10 +1,16 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto;
 
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 
 /**
  * Request DTO for creating a new tenant.
+ * maxConcurrentRequests is optional; when null the global bulkhead limit applies.
+ * customDomain is optional and must be a lowercase host name.
+ * planTier defaults to FREE; requestsPerSecond and requestsPerDay optionally override the plan's quotas.
+ * maxUsers optionally caps the tenant's active users.
  */
 public record CreateTenantRequestDto(
         @NotBlank(message = "Tenant ID is required")
@@ -12,5 +18,22 @@ public record CreateTenantRequestDto(
         String id,
 
         @NotBlank(message = "Tenant name is required")
-        String name
+        String name,
+
+        @Positive(message = "Max concurrent requests must be positive")
+        Integer maxConcurrentRequests,
+
+        @Pattern(regexp = "^([a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?\\.)+[a-z]{2,63}$", message = "Custom domain must be a lowercase host name")
+        String customDomain,
+
+        Tenant.PlanTier planTier,
+
+        @Positive(message = "Requests per second must be positive")
+        Integer requestsPerSecond,
+
+        @Positive(message = "Requests per day must be positive")
+        Long requestsPerDay,
+
+        @Positive(message = "Max users must be positive")
+        Integer maxUsers
 ) {}
@@ -1,5 +1,7 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto;
 
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+
 import java.time.Instant;
 
 /**
@@ -9,5 +11,11 @@ public record TenantResponseDto(
         String id,
         String name,
         boolean active,
+        Integer maxConcurrentRequests,
+        String customDomain,
+        Tenant.PlanTier planTier,
+        Integer requestsPerSecond,
+        Long requestsPerDay,
+        Integer maxUsers,
         Instant createdAt
 ) {}
@@ -0,0 +1,15 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a tenant's user counts.
+ * maxUsers is null when the tenant has no active user limit; updatedAt is null before its first user.
+ */
+public record TenantStatsResponseDto(
+        String tenantId,
+        long userCount,
+        long activeUserCount,
+        Integer maxUsers,
+        Instant updatedAt
+) {}
@@ -0,0 +1,15 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto;
+
+/**
+ * Response DTO for per-tenant request metrics.
+ * tenantId is "other" for the bucket holding all tenants outside the top K.
+ */
+public record TenantUsageResponseDto(
+        String tenantId,
+        long estimatedRecentRequests,
+        long requests,
+        long errors,
+        double meanLatencyMs,
+        double maxLatencyMs,
+        double p99LatencyMs
+) {}
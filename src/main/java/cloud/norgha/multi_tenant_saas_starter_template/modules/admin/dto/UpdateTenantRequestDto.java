@@ -1,9 +1,34 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto;
 
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+
 /**
  * Request DTO for updating a tenant.
+ * A maxConcurrentRequests of 0 removes the override and falls back to the global bulkhead limit.
+ * An empty customDomain removes the tenant's custom domain.
+ * A requestsPerSecond or requestsPerDay of 0 removes the override and falls back to the plan's quota.
+ * A maxUsers of 0 removes the active user limit.
  */
 public record UpdateTenantRequestDto(
         String name,
-        Boolean active
+        Boolean active,
+
+        @PositiveOrZero(message = "Max concurrent requests cannot be negative")
+        Integer maxConcurrentRequests,
+
+        @Pattern(regexp = "^$|([a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?\\.)+[a-z]{2,63}$", message = "Custom domain must be a lowercase host name")
+        String customDomain,
+
+        Tenant.PlanTier planTier,
+
+        @PositiveOrZero(message = "Requests per second cannot be negative")
+        Integer requestsPerSecond,
+
+        @PositiveOrZero(message = "Requests per day cannot be negative")
+        Long requestsPerDay,
+
+        @PositiveOrZero(message = "Max users cannot be negative")
+        Integer maxUsers
 ) {}
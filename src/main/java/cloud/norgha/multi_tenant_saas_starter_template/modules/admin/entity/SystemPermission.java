@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Generated;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -28,6 +29,14 @@ public class SystemPermission {
     @Column(length = 255)
     private String description;
 
+    /**
+     * Position of this permission in the bitset carried by admin access tokens.
+     * Assigned by the database on insert and never changed or reused.
+     */
+    @Generated
+    @Column(name = "bit_index", nullable = false, unique = true, insertable = false, updatable = false)
+    private Integer bitIndex;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -42,6 +51,7 @@ public class SystemPermission {
     public UUID getId() { return id; }
     public String getName() { return name; }
     public String getDescription() { return description; }
+    public Integer getBitIndex() { return bitIndex; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 
     // Setters
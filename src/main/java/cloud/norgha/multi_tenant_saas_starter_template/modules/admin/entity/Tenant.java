@@ -2,6 +2,8 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
@@ -16,6 +18,15 @@ import java.time.Instant;
 @Table(name = "tenants")
 public class Tenant {
 
+    /**
+     * Plan a tenant is on; sets its default request quotas.
+     */
+    public enum PlanTier {
+        FREE,
+        STANDARD,
+        ENTERPRISE
+    }
+
     @Id
     @NotBlank(message = "Tenant ID is required")
     private String id;
@@ -27,6 +38,25 @@ public class Tenant {
     @Column(nullable = false)
     private boolean active;
 
+    @Column(name = "max_concurrent_requests")
+    private Integer maxConcurrentRequests;
+
+    @Column(name = "custom_domain", unique = true)
+    private String customDomain;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "plan_tier", nullable = false, length = 20)
+    private PlanTier planTier;
+
+    @Column(name = "requests_per_second")
+    private Integer requestsPerSecond;
+
+    @Column(name = "requests_per_day")
+    private Long requestsPerDay;
+
+    @Column(name = "max_users")
+    private Integer maxUsers;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -36,6 +66,7 @@ public class Tenant {
         this.id = id;
         this.name = name;
         this.active = true;
+        this.planTier = PlanTier.FREE;
         this.createdAt = Instant.now();
     }
 
@@ -57,6 +88,30 @@ public class Tenant {
         return createdAt;
     }
 
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public String getCustomDomain() {
+        return customDomain;
+    }
+
+    public PlanTier getPlanTier() {
+        return planTier;
+    }
+
+    public Integer getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public Long getRequestsPerDay() {
+        return requestsPerDay;
+    }
+
+    public Integer getMaxUsers() {
+        return maxUsers;
+    }
+
     // Setters
 
     public void setName(String name) {
@@ -66,4 +121,28 @@ public class Tenant {
     public void setActive(boolean active) {
         this.active = active;
     }
+
+    public void setMaxConcurrentRequests(Integer maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public void setCustomDomain(String customDomain) {
+        this.customDomain = customDomain;
+    }
+
+    public void setPlanTier(PlanTier planTier) {
+        this.planTier = planTier;
+    }
+
+    public void setRequestsPerSecond(Integer requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public void setRequestsPerDay(Long requestsPerDay) {
+        this.requestsPerDay = requestsPerDay;
+    }
+
+    public void setMaxUsers(Integer maxUsers) {
+        this.maxUsers = maxUsers;
+    }
 }
@@ -13,5 +13,7 @@ public interface TenantRepository extends JpaRepository<Tenant, String> {
 
     List<Tenant> findByActiveTrue();
 
+    List<Tenant> findByActiveFalse();
+
     boolean existsById(String id);
 }
@@ -2,6 +2,9 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services;
 
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.AdminLoginRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service interface for system admin authentication.
@@ -12,7 +15,16 @@ public interface AdminAuthService {
      * Authenticates a system admin and returns a JWT token.
      *
      * @param request Login credentials
-     * @return Authentication response with JWT token
+     * @return Future authentication response with JWT token, completed once the password is checked
+     */
+    CompletableFuture<AuthResponseDto> login(AdminLoginRequestDto request);
+
+    /**
+     * Exchanges a system admin refresh token for a new JWT token, without a password check.
+     * Roles and permissions are re-read, so changes since login apply.
+     *
+     * @param request Request with the current refresh token
+     * @return Authentication response with JWT token and the replacement refresh token
      */
-    AuthResponseDto login(AdminLoginRequestDto request);
+    AuthResponseDto refresh(RefreshTokenRequestDto request);
 }
@@ -5,6 +5,7 @@ import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreateA
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for managing system admins.
@@ -12,9 +13,9 @@ import java.util.UUID;
 public interface SystemAdminService {
     
     /**
-     * Creates a new system admin.
+     * Creates a new system admin, completing once the password is hashed.
      */
-    AdminResponseDto createAdmin(CreateAdminRequestDto request);
+    CompletableFuture<AdminResponseDto> createAdmin(CreateAdminRequestDto request);
     
     /**
      * Lists all system admins.
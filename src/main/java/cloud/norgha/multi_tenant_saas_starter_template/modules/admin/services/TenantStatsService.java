@@ -0,0 +1,54 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantStatsResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for per-tenant user counts.
+ * The record methods must run in the transaction that creates or deactivates the user,
+ * so the counts commit or roll back together with the change.
+ */
+public interface TenantStatsService {
+
+    /**
+     * Counts a new active user, enforcing the tenant's active user limit.
+     *
+     * @param tenantId Tenant ID
+     * @return The tenant's user count including the new user (1 for its first user)
+     * @throws IllegalStateException if the tenant already has its maximum of active users
+     */
+    long recordUserCreated(String tenantId);
+
+    /**
+     * Counts several new active users at once, enforcing the tenant's active user limit.
+     *
+     * @param tenantId Tenant ID
+     * @param count    Number of users created
+     * @return The tenant's user count including the new users
+     * @throws IllegalStateException if the new users would exceed the tenant's maximum of active users
+     */
+    long recordUsersCreated(String tenantId, int count);
+
+    /**
+     * Removes a user that was active from the tenant's active user count.
+     *
+     * @param tenantId Tenant ID
+     */
+    void recordUserDeactivated(String tenantId);
+
+    /**
+     * Gets a tenant's user counts.
+     *
+     * @param tenantId Tenant ID
+     * @return The tenant's counts
+     */
+    TenantStatsResponseDto getStats(String tenantId);
+
+    /**
+     * Gets the user counts of every tenant.
+     *
+     * @return Counts per tenant, ordered by tenant ID
+     */
+    List<TenantStatsResponseDto> listStats();
+}
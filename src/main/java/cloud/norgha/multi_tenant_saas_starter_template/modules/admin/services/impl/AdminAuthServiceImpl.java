@@ -1,24 +1,36 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.LoginThrottledException;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordCheck;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashingExecutor;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.LoginAttemptThrottle;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.AdminLoginRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.SystemAdmin;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemAdminRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.AdminAuthService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken.SubjectType;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.JwtTokenService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.PermissionRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of AdminAuthService for system admin authentication.
+ * Login runs only the password check on the {@link PasswordHashingExecutor}.
  */
 @Service
 public class AdminAuthServiceImpl implements AdminAuthService {
@@ -29,50 +41,117 @@ public class AdminAuthServiceImpl implements AdminAuthService {
     private final SystemAdminRepository systemAdminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
+    private final PermissionRegistry permissionRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     public AdminAuthServiceImpl(
             SystemAdminRepository systemAdminRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenService jwtTokenService
+            JwtTokenService jwtTokenService,
+            PermissionRegistry permissionRegistry,
+            RefreshTokenService refreshTokenService,
+            LoginAttemptThrottle loginAttemptThrottle,
+            PasswordHashingExecutor passwordHashingExecutor,
+            PlatformTransactionManager transactionManager
     ) {
         this.systemAdminRepository = systemAdminRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenService = jwtTokenService;
+        this.permissionRegistry = permissionRegistry;
+        this.refreshTokenService = refreshTokenService;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public AuthResponseDto login(AdminLoginRequestDto request) {
+    public CompletableFuture<AuthResponseDto> login(AdminLoginRequestDto request) {
         log.debug("Admin login attempt for email: {}", request.email());
 
-        SystemAdmin admin = systemAdminRepository.findByEmail(request.email())
-                .orElseThrow(() -> new BadCredentialsException("Invalid email"));
+        // Locked accounts are turned away before any password hash is checked
+        String throttleKey = LoginAttemptThrottle.key(null, request.email());
+        long lockedForSeconds = loginAttemptThrottle.lockedForSeconds(throttleKey);
+        if (lockedForSeconds > 0) {
+            throw new LoginThrottledException(lockedForSeconds);
+        }
+
+        SystemAdmin admin = systemAdminRepository.findByEmail(request.email()).orElse(null);
+        if (admin == null) {
+            loginAttemptThrottle.recordFailure(throttleKey);
+            throw new BadCredentialsException("Invalid email");
+        }
 
         if (!admin.isActive()) {
             throw new BadCredentialsException("Account is deactivated");
         }
 
-        if (!passwordEncoder.matches(request.password(), admin.getPasswordHash())) {
-            throw new BadCredentialsException("Invalid password");
-        }
+        String passwordHash = admin.getPasswordHash();
+        return passwordHashingExecutor.submit(() -> PasswordCheck.of(passwordEncoder, request.password(), passwordHash))
+                .thenApply(check -> {
+                    if (!check.matches()) {
+                        loginAttemptThrottle.recordFailure(throttleKey);
+                        throw new BadCredentialsException("Invalid password");
+                    }
+                    loginAttemptThrottle.recordSuccess(throttleKey);
+
+                    return transactionTemplate.execute(status -> {
+                        if (check.rehashed() != null) {
+                            admin.setPasswordHash(check.rehashed());
+                            systemAdminRepository.save(admin);
+                            log.debug("Rehashed password for admin: {}", admin.getEmail());
+                        }
 
-        // Password logging removed for security - never log credentials
+                        // Password logging removed for security - never log credentials
 
-        // Get roles from database
-        Set<String> roleNames = admin.getRoleNames();
-        Set<String> permissions = admin.getPermissions();
+                        // Roles and permissions were loaded eagerly with the admin
+                        Set<String> roleNames = admin.getRoleNames();
+                        Set<String> permissions = admin.getPermissions();
 
-        log.info("Successful admin login for: {} with roles: {} and permissions: {}", 
-                admin.getEmail(), roleNames, permissions);
+                        log.info("Successful admin login for: {} with roles: {} and permissions: {}",
+                                admin.getEmail(), roleNames, permissions);
+
+                        return issueTokens(admin,
+                                refreshTokenService.issue(admin.getId(), SubjectType.SYSTEM_ADMIN, null));
+                    });
+                });
+    }
+
+    @Override
+    // Keep the family revocation from a detected reuse when rejecting the request
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponseDto refresh(RefreshTokenRequestDto request) {
+        RefreshTokenService.Rotation rotation =
+                refreshTokenService.rotate(request.refreshToken(), SubjectType.SYSTEM_ADMIN, null);
 
-        // Generate JWT with SYSTEM tenant, roles, and permissions
-        String token = jwtTokenService.generateTokenWithPermissions(
+        SystemAdmin admin = systemAdminRepository.findById(rotation.subjectId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        if (!admin.isActive()) {
+            refreshTokenService.revokeAll(admin.getId());
+            throw new BadCredentialsException("Account is deactivated");
+        }
+
+        log.debug("Refreshed tokens for admin: {}", admin.getEmail());
+        return issueTokens(admin, rotation.refreshToken());
+    }
+
+    private AuthResponseDto issueTokens(SystemAdmin admin, String refreshToken) {
+        // Generate JWT with SYSTEM tenant, roles, and permissions encoded as a bitset
+        String token = jwtTokenService.generateTokenWithPermissionBits(
                 admin.getId().toString(),
                 SYSTEM_TENANT,
-                new ArrayList<>(roleNames),
-                new ArrayList<>(permissions)
+                new ArrayList<>(admin.getRoleNames()),
+                permissionRegistry.encode(admin.getPermissions()).encode()
         );
 
-        return AuthResponseDto.of(token, jwtTokenService.getExpirationSeconds());
+        return AuthResponseDto.of(
+                token,
+                jwtTokenService.getExpirationSeconds(),
+                refreshToken,
+                refreshTokenService.getExpirationSeconds()
+        );
     }
 }
@@ -1,5 +1,7 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreatePermissionRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreateRoleRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.PermissionResponseDto;
@@ -31,15 +33,18 @@ public class RolePermissionServiceImpl implements RolePermissionService {
     private final SystemRoleRepository roleRepository;
     private final SystemPermissionRepository permissionRepository;
     private final SystemAdminRepository adminRepository;
+    private final InvalidationBus invalidationBus;
 
     public RolePermissionServiceImpl(
             SystemRoleRepository roleRepository,
             SystemPermissionRepository permissionRepository,
-            SystemAdminRepository adminRepository
+            SystemAdminRepository adminRepository,
+            InvalidationBus invalidationBus
     ) {
         this.roleRepository = roleRepository;
         this.permissionRepository = permissionRepository;
         this.adminRepository = adminRepository;
+        this.invalidationBus = invalidationBus;
     }
 
     // === Role Operations ===
@@ -92,6 +97,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
         role.setPermissions(permissions);
 
         SystemRole saved = roleRepository.save(role);
+        invalidationBus.publish(InvalidationEvent.Type.RBAC, "role:" + saved.getName());
         log.info("Updated permissions for role {}: {}", saved.getName(), permissionNames);
 
         return mapToRoleResponse(saved);
@@ -109,6 +115,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
         }
         
         roleRepository.delete(role);
+        invalidationBus.publish(InvalidationEvent.Type.RBAC, "role:" + role.getName());
         log.info("Deleted role: {}", role.getName());
     }
 
@@ -150,6 +157,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
         SystemPermission permission = permissionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Permission not found: " + id));
         permissionRepository.delete(permission);
+        invalidationBus.publish(InvalidationEvent.Type.RBAC, "permission:" + permission.getName());
         log.info("Deleted permission: {}", permission.getName());
     }
 
@@ -165,6 +173,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
 
         admin.addRole(role);
         adminRepository.save(admin);
+        invalidationBus.publish(InvalidationEvent.Type.RBAC, "admin:" + adminId);
         log.info("Assigned role {} to admin {}", roleName, admin.getEmail());
     }
 
@@ -178,6 +187,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
 
         admin.removeRole(role);
         adminRepository.save(admin);
+        invalidationBus.publish(InvalidationEvent.Type.RBAC, "admin:" + adminId);
         log.info("Removed role {} from admin {}", roleName, admin.getEmail());
     }
 
@@ -1,5 +1,8 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashingExecutor;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.AdminResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreateAdminRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.SystemAdmin;
@@ -7,17 +10,22 @@ import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Syst
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemAdminRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemRoleRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.SystemAdminService;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.RevocationRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class SystemAdminServiceImpl implements SystemAdminService {
@@ -27,20 +35,34 @@ public class SystemAdminServiceImpl implements SystemAdminService {
     private final SystemAdminRepository adminRepository;
     private final SystemRoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final InvalidationBus invalidationBus;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationRegistry revocationRegistry;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     public SystemAdminServiceImpl(
             SystemAdminRepository adminRepository,
             SystemRoleRepository roleRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            InvalidationBus invalidationBus,
+            RefreshTokenService refreshTokenService,
+            RevocationRegistry revocationRegistry,
+            PasswordHashingExecutor passwordHashingExecutor,
+            PlatformTransactionManager transactionManager
     ) {
         this.adminRepository = adminRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.invalidationBus = invalidationBus;
+        this.refreshTokenService = refreshTokenService;
+        this.revocationRegistry = revocationRegistry;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
-    public AdminResponseDto createAdmin(CreateAdminRequestDto request) {
+    public CompletableFuture<AdminResponseDto> createAdmin(CreateAdminRequestDto request) {
         // Check if email already exists
         if (adminRepository.findByEmail(request.email()).isPresent()) {
             throw new IllegalArgumentException("Email already registered");
@@ -56,18 +78,21 @@ public class SystemAdminServiceImpl implements SystemAdminService {
             }
         }
 
-        // Create admin
-        SystemAdmin admin = new SystemAdmin(
-                request.email(),
-                passwordEncoder.encode(request.password()),
-                request.fullName()
-        );
-        admin.setRoles(roles);
+        // Only the hash runs on the hashing pool; the admin is saved after it completes
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(request.password()))
+                .thenApply(passwordHash -> transactionTemplate.execute(status -> {
+                    SystemAdmin admin = new SystemAdmin(
+                            request.email(),
+                            passwordHash,
+                            request.fullName()
+                    );
+                    admin.setRoles(roles);
 
-        SystemAdmin saved = adminRepository.save(admin);
-        log.info("Created system admin: {} with roles: {}", saved.getEmail(), saved.getRoleNames());
+                    SystemAdmin saved = adminRepository.save(admin);
+                    log.info("Created system admin: {} with roles: {}", saved.getEmail(), saved.getRoleNames());
 
-        return mapToResponse(saved);
+                    return mapToResponse(saved);
+                }));
     }
 
     @Override
@@ -93,6 +118,9 @@ public class SystemAdminServiceImpl implements SystemAdminService {
                 .orElseThrow(() -> new EntityNotFoundException("Admin not found: " + id));
         admin.setActive(false);
         adminRepository.save(admin);
+        refreshTokenService.revokeAll(id);
+        revocationRegistry.revokeUser(id.toString());
+        invalidationBus.publish(InvalidationEvent.Type.USER_STATUS, id.toString());
         log.info("Deactivated system admin: {}", admin.getEmail());
     }
 
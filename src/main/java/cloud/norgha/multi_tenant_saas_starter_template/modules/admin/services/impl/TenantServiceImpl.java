@@ -1,23 +1,30 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.CreateTenantRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.UpdateTenantRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.RevocationRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
 /**
  * Implementation of TenantService for tenant management.
- * Evicts tenant cache when tenants are modified.
+ * Pushes every change to the TenantRegistry once the transaction commits,
+ * and broadcasts it so the registries on other nodes reload the tenant.
  */
 @Service
 @Transactional(readOnly = true)
@@ -26,9 +33,20 @@ public class TenantServiceImpl implements TenantService {
     private static final Logger log = LoggerFactory.getLogger(TenantServiceImpl.class);
 
     private final TenantRepository tenantRepository;
-
-    public TenantServiceImpl(TenantRepository tenantRepository) {
+    private final TenantRegistry tenantRegistry;
+    private final InvalidationBus invalidationBus;
+    private final RevocationRegistry revocationRegistry;
+
+    public TenantServiceImpl(
+            TenantRepository tenantRepository,
+            TenantRegistry tenantRegistry,
+            InvalidationBus invalidationBus,
+            RevocationRegistry revocationRegistry
+    ) {
         this.tenantRepository = tenantRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.invalidationBus = invalidationBus;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
@@ -41,7 +59,16 @@ public class TenantServiceImpl implements TenantService {
         }
 
         Tenant tenant = new Tenant(request.id(), request.name());
+        tenant.setMaxConcurrentRequests(request.maxConcurrentRequests());
+        tenant.setCustomDomain(request.customDomain());
+        if (request.planTier() != null) {
+            tenant.setPlanTier(request.planTier());
+        }
+        tenant.setRequestsPerSecond(request.requestsPerSecond());
+        tenant.setRequestsPerDay(request.requestsPerDay());
+        tenant.setMaxUsers(request.maxUsers());
         Tenant saved = tenantRepository.save(tenant);
+        publishToRegistry(saved);
 
         log.info("Created tenant: {}", saved.getId());
         return mapToResponse(saved);
@@ -65,7 +92,6 @@ public class TenantServiceImpl implements TenantService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "tenants", key = "#id")
     public TenantResponseDto updateTenant(String id, UpdateTenantRequestDto request) {
         log.debug("Updating tenant: {}", id);
 
@@ -75,28 +101,85 @@ public class TenantServiceImpl implements TenantService {
         if (request.name() != null && !request.name().isBlank()) {
             tenant.setName(request.name());
         }
-        if (request.active() != null) {
-            tenant.setActive(request.active());
+        boolean deactivated = request.active() != null && applyActive(tenant, request.active());
+        if (request.maxConcurrentRequests() != null) {
+            tenant.setMaxConcurrentRequests(
+                    request.maxConcurrentRequests() > 0 ? request.maxConcurrentRequests() : null);
+        }
+        if (request.customDomain() != null) {
+            tenant.setCustomDomain(request.customDomain().isEmpty() ? null : request.customDomain());
+        }
+        if (request.planTier() != null) {
+            tenant.setPlanTier(request.planTier());
+        }
+        if (request.requestsPerSecond() != null) {
+            tenant.setRequestsPerSecond(request.requestsPerSecond() > 0 ? request.requestsPerSecond() : null);
+        }
+        if (request.requestsPerDay() != null) {
+            tenant.setRequestsPerDay(request.requestsPerDay() > 0 ? request.requestsPerDay() : null);
+        }
+        if (request.maxUsers() != null) {
+            tenant.setMaxUsers(request.maxUsers() > 0 ? request.maxUsers() : null);
         }
 
         Tenant updated = tenantRepository.save(tenant);
-        log.info("Updated tenant: {} (cache evicted)", id);
+        publishToRegistry(updated);
+        if (deactivated) {
+            revocationRegistry.revokeTenant(id);
+        }
+        log.info("Updated tenant: {}", id);
 
         return mapToResponse(updated);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "tenants", key = "#id")
     public void deactivateTenant(String id) {
         log.debug("Deactivating tenant: {}", id);
 
         Tenant tenant = tenantRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Tenant not found: " + id));
 
-        tenant.setActive(false);
+        boolean deactivated = applyActive(tenant, false);
         tenantRepository.save(tenant);
-        log.info("Deactivated tenant: {} (cache evicted)", id);
+        publishToRegistry(tenant);
+        if (deactivated) {
+            revocationRegistry.revokeTenant(id);
+        }
+        log.info("Deactivated tenant: {}", id);
+    }
+
+    /**
+     * Sets the active flag, reporting whether this deactivated a tenant that was active.
+     * Every path that can deactivate a tenant goes through here, so none of them forgets to revoke its tokens.
+     *
+     * @return true if the tenant went from active to inactive
+     */
+    private static boolean applyActive(Tenant tenant, boolean active) {
+        boolean deactivated = tenant.isActive() && !active;
+        tenant.setActive(active);
+        return deactivated;
+    }
+
+    /**
+     * Applies the tenant to the in-memory registry after the transaction commits,
+     * so a rolled back change is never visible to request validation.
+     */
+    private void publishToRegistry(Tenant tenant) {
+        TenantSnapshot snapshot = TenantSnapshot.from(tenant);
+        invalidationBus.publish(InvalidationEvent.Type.TENANT, tenant.getId());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tenantRegistry.put(snapshot);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tenantRegistry.put(snapshot);
+            }
+        });
     }
 
     private TenantResponseDto mapToResponse(Tenant tenant) {
@@ -104,6 +187,12 @@ public class TenantServiceImpl implements TenantService {
                 tenant.getId(),
                 tenant.getName(),
                 tenant.isActive(),
+                tenant.getMaxConcurrentRequests(),
+                tenant.getCustomDomain(),
+                tenant.getPlanTier(),
+                tenant.getRequestsPerSecond(),
+                tenant.getRequestsPerDay(),
+                tenant.getMaxUsers(),
                 tenant.getCreatedAt()
         );
     }
@@ -0,0 +1,116 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.TenantStatsResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Implementation of TenantStatsService backed by the tenant_stats table.
+ * Each change is a single-row atomic upsert, so its cost does not grow with the tenant. The row
+ * lock it takes also serialises concurrent sign-ups in one tenant, so exactly one of them sees
+ * itself as the first user and the active user limit cannot be overshot.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TenantStatsServiceImpl implements TenantStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantStatsServiceImpl.class);
+
+    private static final String USER_CREATED_SQL = """
+            WITH counted AS (
+                INSERT INTO tenant_stats (tenant_id, user_count, active_user_count, updated_at)
+                VALUES (?, ?, ?, now())
+                ON CONFLICT (tenant_id) DO UPDATE
+                    SET user_count = tenant_stats.user_count + EXCLUDED.user_count,
+                        active_user_count = tenant_stats.active_user_count + EXCLUDED.active_user_count,
+                        updated_at = now()
+                RETURNING user_count, active_user_count
+            )
+            SELECT counted.user_count, counted.active_user_count, tenants.max_users
+            FROM counted LEFT JOIN tenants ON tenants.id = ?
+            """;
+
+    private static final String USER_DEACTIVATED_SQL = """
+            UPDATE tenant_stats
+            SET active_user_count = active_user_count - 1, updated_at = now()
+            WHERE tenant_id = ? AND active_user_count > 0
+            """;
+
+    private static final String SELECT_STATS_SQL = """
+            SELECT tenants.id, COALESCE(s.user_count, 0) AS user_count,
+                   COALESCE(s.active_user_count, 0) AS active_user_count, tenants.max_users, s.updated_at
+            FROM tenants LEFT JOIN tenant_stats s ON s.tenant_id = tenants.id
+            """;
+
+    private static final RowMapper<TenantStatsResponseDto> STATS_MAPPER = (rs, rowNum) -> {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new TenantStatsResponseDto(
+                rs.getString("id"),
+                rs.getLong("user_count"),
+                rs.getLong("active_user_count"),
+                (Integer) rs.getObject("max_users"),
+                updatedAt == null ? null : updatedAt.toInstant()
+        );
+    };
+
+    private record Counts(long users, long activeUsers, Integer maxUsers) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TenantStatsServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long recordUserCreated(String tenantId) {
+        return recordUsersCreated(tenantId, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long recordUsersCreated(String tenantId, int count) {
+        Counts counts = jdbcTemplate.queryForObject(USER_CREATED_SQL, (rs, rowNum) -> new Counts(
+                rs.getLong("user_count"),
+                rs.getLong("active_user_count"),
+                (Integer) rs.getObject("max_users")
+        ), tenantId, count, count, tenantId);
+
+        if (counts.maxUsers() != null && counts.activeUsers() > counts.maxUsers()) {
+            // Thrown inside the caller's transaction, which rolls the increment back
+            log.warn("Tenant {} reached its limit of {} active users", tenantId, counts.maxUsers());
+            throw new IllegalStateException("Tenant has reached its limit of " + counts.maxUsers() + " active users");
+        }
+        return counts.users();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUserDeactivated(String tenantId) {
+        jdbcTemplate.update(USER_DEACTIVATED_SQL, tenantId);
+    }
+
+    @Override
+    public TenantStatsResponseDto getStats(String tenantId) {
+        return jdbcTemplate.query(SELECT_STATS_SQL + "WHERE tenants.id = ?", STATS_MAPPER, tenantId)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Tenant not found: " + tenantId));
+    }
+
+    @Override
+    public List<TenantStatsResponseDto> listStats() {
+        return jdbcTemplate.query(SELECT_STATS_SQL + "ORDER BY tenants.id", STATS_MAPPER);
+    }
+}
@@ -2,6 +2,7 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.controllers
 
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.LoginRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RegisterRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.AuthService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,9 +14,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * REST controller for authentication endpoints.
  * These endpoints are publicly accessible (no authentication required).
+ * Register and login return futures that complete once the password is hashed, releasing the
+ * request thread until the response is ready.
  */
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -36,9 +41,9 @@ public class AuthController {
      * @return JWT token response
      */
     @PostMapping("/register")
-    public ResponseEntity<AuthResponseDto> register(@Valid @RequestBody RegisterRequestDto request) {
-        AuthResponseDto response = authService.register(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> register(@Valid @RequestBody RegisterRequestDto request) {
+        return authService.register(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     /**
@@ -48,8 +53,21 @@ public class AuthController {
      * @return JWT token response
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
-        AuthResponseDto response = authService.login(request);
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> login(@Valid @RequestBody LoginRequestDto request) {
+        return authService.login(request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT token and refresh token.
+     * The presented refresh token can't be used again.
+     *
+     * @param request Current refresh token
+     * @return JWT token response
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        AuthResponseDto response = authService.refresh(request);
         return ResponseEntity.ok(response);
     }
 }
@@ -4,13 +4,15 @@ import java.time.Instant;
 
 /**
  * Response DTO for authentication operations.
- * Returns the access token and its expiration.
+ * Returns the access token and its expiration, plus a refresh token where one was issued.
  */
 public record AuthResponseDto(
         String accessToken,
         String tokenType,
         long expiresIn,
-        Instant expiresAt
+        Instant expiresAt,
+        String refreshToken,
+        Long refreshExpiresIn
 ) {
     /**
      * Creates an AuthResponseDto with Bearer token type.
@@ -24,7 +26,29 @@ public record AuthResponseDto(
                 accessToken,
                 "Bearer",
                 expiresIn,
-                Instant.now().plusSeconds(expiresIn)
+                Instant.now().plusSeconds(expiresIn),
+                null,
+                null
+        );
+    }
+
+    /**
+     * Creates an AuthResponseDto with Bearer token type and a refresh token.
+     *
+     * @param accessToken      JWT access token
+     * @param expiresIn        Token validity in seconds
+     * @param refreshToken     Opaque refresh token
+     * @param refreshExpiresIn Refresh token validity in seconds
+     * @return AuthResponseDto instance
+     */
+    public static AuthResponseDto of(String accessToken, long expiresIn, String refreshToken, long refreshExpiresIn) {
+        return new AuthResponseDto(
+                accessToken,
+                "Bearer",
+                expiresIn,
+                Instant.now().plusSeconds(expiresIn),
+                refreshToken,
+                refreshExpiresIn
         );
     }
 }
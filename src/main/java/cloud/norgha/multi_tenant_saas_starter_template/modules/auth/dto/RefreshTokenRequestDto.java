@@ -0,0 +1,11 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request DTO for exchanging a refresh token for a new access token.
+ */
+public record RefreshTokenRequestDto(
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken
+) {}
@@ -0,0 +1,90 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single refresh token, stored as the SHA-256 hash of the value handed to the client.
+ * Not tenant-filtered: it is looked up by hash, and system admin tokens have no tenant.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken {
+
+    /**
+     * Who a refresh token was issued to.
+     */
+    public enum SubjectType {
+        USER,
+        SYSTEM_ADMIN
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
+    @Column(name = "subject_id", nullable = false, updatable = false)
+    private UUID subjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type", nullable = false, updatable = false, length = 20)
+    private SubjectType subjectType;
+
+    @Column(name = "tenant_id", updatable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt = Instant.now();
+
+    public RefreshToken() {}
+
+    public RefreshToken(String tokenHash, UUID familyId, UUID subjectId, SubjectType subjectType,
+                        String tenantId, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.subjectId = subjectId;
+        this.subjectType = subjectType;
+        this.tenantId = tenantId;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public String getTokenHash() { return tokenHash; }
+    public UUID getFamilyId() { return familyId; }
+    public UUID getSubjectId() { return subjectId; }
+    public SubjectType getSubjectType() { return subjectType; }
+    public String getTenantId() { return tenantId; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Instant getUsedAt() { return usedAt; }
+    public Instant getRevokedAt() { return revokedAt; }
+    public Instant getCreatedAt() { return createdAt; }
+
+    // Setters
+    public void setUsedAt(Instant usedAt) { this.usedAt = usedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+}
@@ -0,0 +1,55 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.repository;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Loads a token for rotation, locking the row so two concurrent refreshes with the same token
+     * cannot both succeed.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findForRotation(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.subjectId = :subjectId AND t.revokedAt IS NULL")
+    int revokeAllForSubject(@Param("subjectId") UUID subjectId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.subjectId = :subjectId AND t.expiresAt < :now")
+    int deleteExpiredForSubject(@Param("subjectId") UUID subjectId, @Param("now") Instant now);
+
+    /**
+     * Deletes the expired and already rotated tokens of a family, except the one being rotated now.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.familyId = :familyId AND t.tokenHash <> :keepHash"
+            + " AND (t.expiresAt < :now OR t.usedAt IS NOT NULL)")
+    int deleteSpentInFamily(@Param("familyId") UUID familyId, @Param("keepHash") String keepHash,
+                            @Param("now") Instant now);
+
+    /**
+     * Deletes up to a batch of expired tokens across all subjects.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN"
+            + " (SELECT id FROM refresh_tokens WHERE expires_at < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -2,8 +2,11 @@ package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services;
 
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.LoginRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RegisterRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service interface for authentication operations.
  */
@@ -14,15 +17,23 @@ public interface AuthService {
      * The first user in a tenant automatically becomes an ADMIN.
      *
      * @param request Registration request with email, password, and full name
-     * @return Authentication response with JWT token
+     * @return Future authentication response with JWT token, completed once the password is hashed
      */
-    AuthResponseDto register(RegisterRequestDto request);
+    CompletableFuture<AuthResponseDto> register(RegisterRequestDto request);
 
     /**
      * Authenticates a user and returns a JWT token.
      *
      * @param request Login request with email and password
-     * @return Authentication response with JWT token
+     * @return Future authentication response with JWT token, completed once the password is checked
+     */
+    CompletableFuture<AuthResponseDto> login(LoginRequestDto request);
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token, without a password check.
+     *
+     * @param request Request with the current refresh token
+     * @return Authentication response with JWT token and the replacement refresh token
      */
-    AuthResponseDto login(LoginRequestDto request);
+    AuthResponseDto refresh(RefreshTokenRequestDto request);
 }
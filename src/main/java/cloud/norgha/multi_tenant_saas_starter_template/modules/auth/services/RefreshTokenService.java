@@ -0,0 +1,54 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken.SubjectType;
+
+import java.util.UUID;
+
+/**
+ * Service interface for issuing and rotating refresh tokens.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Result of a successful rotation.
+     *
+     * @param subjectId    User or admin the token belongs to
+     * @param refreshToken The replacement refresh token to hand to the client
+     */
+    record Rotation(UUID subjectId, String refreshToken) {}
+
+    /**
+     * Starts a new token family for a login.
+     *
+     * @param subjectId   User or admin ID
+     * @param subjectType Kind of subject
+     * @param tenantId    Tenant of a user, or null for a system admin
+     * @return The raw refresh token; only its hash is stored
+     */
+    String issue(UUID subjectId, SubjectType subjectType, String tenantId);
+
+    /**
+     * Exchanges a refresh token for the next one in its family.
+     * Presenting a token that was already used revokes the whole family.
+     *
+     * @param refreshToken The raw refresh token from the client
+     * @param subjectType  Kind of subject the caller expects
+     * @param tenantId     Tenant of the request, or null for a system admin
+     * @return The subject and the replacement token
+     * @throws org.springframework.security.authentication.BadCredentialsException if the token is unknown,
+     *         expired, revoked, reused or issued for another tenant or subject type
+     */
+    Rotation rotate(String refreshToken, SubjectType subjectType, String tenantId);
+
+    /**
+     * Revokes every family of a subject, e.g. when the account is deactivated.
+     *
+     * @param subjectId User or admin ID
+     */
+    void revokeAll(UUID subjectId);
+
+    /**
+     * Returns the refresh token validity in seconds.
+     */
+    long getExpirationSeconds();
+}
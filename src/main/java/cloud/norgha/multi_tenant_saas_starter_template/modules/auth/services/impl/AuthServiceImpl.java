@@ -1,7 +1,15 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.LoginThrottledException;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordCheck;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashingExecutor;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.LoginAttemptThrottle;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.AuthResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.LoginRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RefreshTokenRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken.SubjectType;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.dto.RegisterRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.AuthService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.entity.User;
@@ -13,12 +21,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of AuthService for handling authentication and registration.
+ * Register and login run only the password hash or check on the {@link PasswordHashingExecutor};
+ * lookups happen on the request thread and writes in a transaction after the hash is done.
  */
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -31,20 +44,34 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final TenantStatsService tenantStatsService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthServiceImpl(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenService jwtTokenService
+            JwtTokenService jwtTokenService,
+            RefreshTokenService refreshTokenService,
+            LoginAttemptThrottle loginAttemptThrottle,
+            TenantStatsService tenantStatsService,
+            PasswordHashingExecutor passwordHashingExecutor,
+            PlatformTransactionManager transactionManager
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenService = jwtTokenService;
+        this.refreshTokenService = refreshTokenService;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.tenantStatsService = tenantStatsService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
-    public AuthResponseDto register(RegisterRequestDto request) {
+    public CompletableFuture<AuthResponseDto> register(RegisterRequestDto request) {
         String tenantId = TenantContext.getTenantId();
         log.debug("Registering user with email: {} in tenant: {}", request.email(), tenantId);
 
@@ -53,57 +80,108 @@ public class AuthServiceImpl implements AuthService {
             throw new IllegalArgumentException("Email already registered in this tenant");
         }
 
-        // First user in tenant becomes ADMIN
-        boolean isFirstUser = userRepository.count() == 0;
-        String role = isFirstUser ? ROLE_ADMIN : ROLE_USER;
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(request.password()))
+                .thenApply(passwordHash -> transactionTemplate.execute(status -> {
+                    // First user in tenant becomes ADMIN (also enforces the tenant's user limit)
+                    boolean isFirstUser = tenantStatsService.recordUserCreated(tenantId) == 1;
+                    String role = isFirstUser ? ROLE_ADMIN : ROLE_USER;
+
+                    User user = new User(
+                            request.email(),
+                            passwordHash,
+                            request.fullName(),
+                            request.companyName(),
+                            role
+                    );
+
+                    User saved = userRepository.save(user);
+                    log.info("Registered user with ID: {} and role: {} in tenant: {}", saved.getId(), role, tenantId);
+
+                    return issueTokens(saved, tenantId,
+                            refreshTokenService.issue(saved.getId(), SubjectType.USER, tenantId));
+                }));
+    }
 
-        User user = new User(
-                request.email(),
-                passwordEncoder.encode(request.password()),
-                request.fullName(),
-                request.companyName(),
-                role
-        );
+    @Override
+    public CompletableFuture<AuthResponseDto> login(LoginRequestDto request) {
+        String tenantId = TenantContext.getTenantId();
+        log.debug("Login attempt for email: {} in tenant: {}", request.email(), tenantId);
 
-        User saved = userRepository.save(user);
-        log.info("Registered user with ID: {} and role: {} in tenant: {}", saved.getId(), role, tenantId);
+        // Locked accounts are turned away before any password hash is checked
+        String throttleKey = LoginAttemptThrottle.key(tenantId, request.email());
+        long lockedForSeconds = loginAttemptThrottle.lockedForSeconds(throttleKey);
+        if (lockedForSeconds > 0) {
+            throw new LoginThrottledException(lockedForSeconds);
+        }
 
-        // Generate JWT token
-        String token = jwtTokenService.generateToken(
-                saved.getId().toString(),
-                tenantId,
-                List.of(role)
-        );
+        // Looked up on the request thread, where the tenant filter is enabled
+        User user = userRepository.findByEmail(request.email()).orElse(null);
+        if (user == null) {
+            loginAttemptThrottle.recordFailure(throttleKey);
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
-        return AuthResponseDto.of(token, jwtTokenService.getExpirationSeconds());
+        if (!user.isActive()) {
+            throw new BadCredentialsException("Account is deactivated");
+        }
+
+        String passwordHash = user.getPasswordHash();
+        return passwordHashingExecutor.submit(() -> PasswordCheck.of(passwordEncoder, request.password(), passwordHash))
+                .thenApply(check -> {
+                    if (!check.matches()) {
+                        loginAttemptThrottle.recordFailure(throttleKey);
+                        throw new BadCredentialsException("Invalid email or password");
+                    }
+                    loginAttemptThrottle.recordSuccess(throttleKey);
+
+                    return transactionTemplate.execute(status -> {
+                        if (check.rehashed() != null) {
+                            user.setPasswordHash(check.rehashed());
+                            userRepository.save(user);
+                            log.debug("Rehashed password for user ID: {} in tenant: {}", user.getId(), tenantId);
+                        }
+
+                        log.info("Successful login for user ID: {} in tenant: {}", user.getId(), tenantId);
+
+                        return issueTokens(user, tenantId,
+                                refreshTokenService.issue(user.getId(), SubjectType.USER, tenantId));
+                    });
+                });
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public AuthResponseDto login(LoginRequestDto request) {
+    // Keep the family revocation from a detected reuse when rejecting the request
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public AuthResponseDto refresh(RefreshTokenRequestDto request) {
         String tenantId = TenantContext.getTenantId();
-        log.debug("Login attempt for email: {} in tenant: {}", request.email(), tenantId);
+        RefreshTokenService.Rotation rotation =
+                refreshTokenService.rotate(request.refreshToken(), SubjectType.USER, tenantId);
 
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
+        User user = userRepository.findById(rotation.subjectId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
 
         if (!user.isActive()) {
+            refreshTokenService.revokeAll(user.getId());
             throw new BadCredentialsException("Account is deactivated");
         }
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-            throw new BadCredentialsException("Invalid email or password");
-        }
-
-        log.info("Successful login for user ID: {} in tenant: {}", user.getId(), tenantId);
+        log.debug("Refreshed tokens for user ID: {} in tenant: {}", user.getId(), tenantId);
+        return issueTokens(user, tenantId, rotation.refreshToken());
+    }
 
-        // Generate JWT token
+    private AuthResponseDto issueTokens(User user, String tenantId, String refreshToken) {
+        // Generate JWT token with the user's current role
         String token = jwtTokenService.generateToken(
                 user.getId().toString(),
                 tenantId,
                 List.of(user.getRole())
         );
 
-        return AuthResponseDto.of(token, jwtTokenService.getExpirationSeconds());
+        return AuthResponseDto.of(
+                token,
+                jwtTokenService.getExpirationSeconds(),
+                refreshToken,
+                refreshTokenService.getExpirationSeconds()
+        );
     }
 }
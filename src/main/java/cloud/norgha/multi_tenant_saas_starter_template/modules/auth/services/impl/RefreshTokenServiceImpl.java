@@ -0,0 +1,177 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken.SubjectType;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.repository.RefreshTokenRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of RefreshTokenService.
+ * Tokens are 256 random bits; only their SHA-256 hash is stored, so a refresh costs one hash
+ * and one indexed lookup instead of a password check.
+ * <p>
+ * A rotation deletes the family's older rotated tokens, keeping only the one just used for reuse
+ * detection, and a periodic cleanup deletes expired tokens of families nobody refreshes any more.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long expirationSeconds;
+    private final long cleanupIntervalSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private ScheduledExecutorService cleaner;
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.jwt.refresh-expiration:604800}") long expirationSeconds,
+            @Value("${security.jwt.refresh-cleanup-interval-seconds:3600}") long cleanupIntervalSeconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expirationSeconds = expirationSeconds;
+        this.cleanupIntervalSeconds = cleanupIntervalSeconds;
+    }
+
+    /**
+     * Schedules the periodic deletion of expired tokens.
+     */
+    @PostConstruct
+    public void start() {
+        if (cleanupIntervalSeconds > 0) {
+            cleaner = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("refresh-token-cleanup").daemon().factory());
+            cleaner.scheduleWithFixedDelay(this::deleteExpiredQuietly,
+                    cleanupIntervalSeconds, cleanupIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (cleaner != null) {
+            cleaner.shutdownNow();
+        }
+    }
+
+    @Override
+    @Transactional
+    public String issue(UUID subjectId, SubjectType subjectType, String tenantId) {
+        Instant now = Instant.now();
+        refreshTokenRepository.deleteExpiredForSubject(subjectId, now);
+        return create(UUID.randomUUID(), subjectId, subjectType, tenantId, now);
+    }
+
+    @Override
+    // The family revocation on reuse must commit even though the caller gets an error
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String refreshToken, SubjectType subjectType, String tenantId) {
+        Instant now = Instant.now();
+        RefreshToken token = refreshTokenRepository.findForRotation(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        if (token.getSubjectType() != subjectType || !Objects.equals(token.getTenantId(), tenantId)) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        if (token.getUsedAt() != null || token.getRevokedAt() != null) {
+            if (token.getRevokedAt() == null) {
+                // A rotated token came back: either the client or an attacker holds a stolen copy
+                int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+                log.warn("Refresh token reuse detected for {} {}, revoked {} tokens in family {}",
+                        subjectType, token.getSubjectId(), revoked, token.getFamilyId());
+            }
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        if (!now.isBefore(token.getExpiresAt())) {
+            throw new BadCredentialsException("Refresh token expired");
+        }
+
+        token.setUsedAt(now);
+        refreshTokenRepository.deleteSpentInFamily(token.getFamilyId(), token.getTokenHash(), now);
+        String next = create(token.getFamilyId(), token.getSubjectId(), subjectType, tenantId, now);
+        return new Rotation(token.getSubjectId(), next);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(UUID subjectId) {
+        int revoked = refreshTokenRepository.revokeAllForSubject(subjectId, Instant.now());
+        log.info("Revoked {} refresh tokens for subject {}", revoked, subjectId);
+    }
+
+    @Override
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+
+    /**
+     * Deletes every expired token, one batch per statement so no transaction grows large.
+     *
+     * @return The number of deleted tokens
+     */
+    int deleteExpired(Instant now) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, CLEANUP_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+        return total;
+    }
+
+    private void deleteExpiredQuietly() {
+        try {
+            int deleted = deleteExpired(Instant.now());
+            if (deleted > 0) {
+                log.info("Deleted {} expired refresh tokens", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Refresh token cleanup failed: {}", ex.getMessage());
+        }
+    }
+
+    private String create(UUID familyId, UUID subjectId, SubjectType subjectType, String tenantId, Instant now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                hash(raw), familyId, subjectId, subjectType, tenantId, now.plusSeconds(expirationSeconds)));
+        return raw;
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.tenant.controllers;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantMissingException;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.tenant.dto.QuotaStatusResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.quota.TenantQuotas;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the current tenant's plan quotas.
+ * Requires authentication.
+ */
+@RestController
+@RequestMapping("/api/v1/tenant")
+@Tag(name = "Tenant Quota", description = "Plan quotas and usage of the current tenant")
+public class TenantQuotaController {
+
+    private final TenantQuotas tenantQuotas;
+
+    public TenantQuotaController(TenantQuotas tenantQuotas) {
+        this.tenantQuotas = tenantQuotas;
+    }
+
+    /**
+     * Gets the current tenant's request quotas and how much of today's quota is used.
+     *
+     * @return Quota status
+     */
+    @GetMapping("/quota")
+    public ResponseEntity<QuotaStatusResponseDto> getQuotaStatus() {
+        TenantId tenant = TenantContext.getTenant();
+        if (tenant == null) {
+            throw new TenantMissingException("No tenant context for quota status");
+        }
+
+        TenantQuotas.Status status = tenantQuotas.status(tenant);
+        long perDay = status.limits().requestsPerDay();
+        return ResponseEntity.ok(new QuotaStatusResponseDto(
+                tenant.value(),
+                status.limits().planTier(),
+                status.limits().requestsPerSecond(),
+                perDay > 0 ? perDay : null,
+                status.requestsToday(),
+                perDay > 0 ? Math.max(0, perDay - status.requestsToday()) : null,
+                status.resetsAt()
+        ));
+    }
+}
@@ -0,0 +1,20 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.tenant.dto;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for the current tenant's request quotas and today's usage.
+ * requestsPerDay and remainingToday are null when the daily quota is unlimited.
+ * Daily usage is counted per UTC day and resets at resetsAt.
+ */
+public record QuotaStatusResponseDto(
+        String tenantId,
+        Tenant.PlanTier planTier,
+        int requestsPerSecond,
+        Long requestsPerDay,
+        long requestsToday,
+        Long remainingToday,
+        Instant resetsAt
+) {}
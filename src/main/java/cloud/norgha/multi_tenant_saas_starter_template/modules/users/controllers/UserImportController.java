@@ -0,0 +1,72 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.controllers;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserImportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk user imports into the current tenant.
+ * All endpoints require ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/v1/users/import")
+@Tag(name = "User Import", description = "Tenant-scoped bulk user import endpoints")
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+
+    public UserImportController(UserImportService userImportService) {
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Imports users from a CSV or NDJSON request body, streamed rather than buffered.
+     * Pass the jobId of an interrupted import to resume it from its last committed row.
+     *
+     * @param jobId   Optional client-chosen job ID
+     * @param request The request, whose body is the file
+     * @return Summary of the job with the first rejected rows
+     */
+    @PostMapping(consumes = {"text/csv", NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportResponseDto> importUsers(
+            @RequestParam(required = false) UUID jobId,
+            HttpServletRequest request
+    ) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? UserImportService.Format.NDJSON
+                : UserImportService.Format.CSV;
+
+        UserImportResponseDto job = userImportService.importUsers(jobId, format, request.getInputStream());
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * Gets the progress or outcome of an import job.
+     *
+     * @param jobId Job ID
+     * @return Summary of the job with the first rejected rows
+     */
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportResponseDto> getJob(@PathVariable UUID jobId) {
+        UserImportResponseDto job = userImportService.getJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+}
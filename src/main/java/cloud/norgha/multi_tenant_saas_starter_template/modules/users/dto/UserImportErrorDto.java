@@ -0,0 +1,14 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto;
+
+/**
+ * A row rejected by a bulk import.
+ *
+ * @param line    Line number in the uploaded file (1-based, header included)
+ * @param email   Email of the row, if it could be read
+ * @param message Why the row was rejected
+ */
+public record UserImportErrorDto(
+        long line,
+        String email,
+        String message
+) {}
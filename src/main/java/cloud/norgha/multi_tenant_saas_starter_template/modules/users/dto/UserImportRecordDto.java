@@ -0,0 +1,33 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One user in a bulk import file, a CSV row or an NDJSON line.
+ * Exactly one of password (hashed on import) or passwordHash (an existing BCrypt or Argon2 hash) is given.
+ */
+public record UserImportRecordDto(
+
+        @Email(message = "Email type invalid")
+        @NotBlank(message = "Email is required")
+        @Size(max = 255, message = "Email must be at most 255 characters")
+        String email,
+
+        @Size(max = 72, message = "Password must be at most 72 characters")
+        String password,
+
+        @Size(max = 255, message = "Password hash must be at most 255 characters")
+        String passwordHash,
+
+        @NotBlank(message = "Full Name is required")
+        @Size(max = 255, message = "Full Name must be at most 255 characters")
+        String fullName,
+
+        @NotBlank(message = "Company Name is required")
+        @Size(max = 255, message = "Company Name must be at most 255 characters")
+        String companyName
+
+) {
+}
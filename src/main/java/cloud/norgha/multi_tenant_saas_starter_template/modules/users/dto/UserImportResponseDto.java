@@ -0,0 +1,21 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk user import job.
+ * errors holds the first rejected rows in file order, up to app.users.import.max-reported-errors.
+ */
+public record UserImportResponseDto(
+        UUID jobId,
+        String status,
+        long rowsProcessed,
+        long rowsImported,
+        long rowsFailed,
+        String failureReason,
+        List<UserImportErrorDto> errors,
+        Instant createdAt,
+        Instant updatedAt
+) {}
@@ -0,0 +1,44 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk user imports into the current tenant.
+ */
+public interface UserImportService {
+
+    /**
+     * File formats accepted by an import.
+     */
+    enum Format {
+        /** Comma-separated values with a header row naming the columns. */
+        CSV,
+        /** One JSON object per line. */
+        NDJSON
+    }
+
+    /**
+     * Imports users from a file, reading it as it streams in.
+     * Sending the same file again with the ID of an unfinished job resumes after the last committed row.
+     *
+     * @param jobId  Job ID chosen by the client, or null for a new job
+     * @param format Format of the file
+     * @param body   The file contents, UTF-8 encoded
+     * @return Summary of the job, with the first rejected rows
+     * @throws IOException if reading the file fails
+     * @throws IllegalStateException if the job is running elsewhere or the ID belongs to another import
+     */
+    UserImportResponseDto importUsers(UUID jobId, Format format, InputStream body) throws IOException;
+
+    /**
+     * Gets an import job of the current tenant.
+     *
+     * @param jobId Job ID
+     * @return Summary of the job, with the first rejected rows
+     */
+    UserImportResponseDto getJob(UUID jobId);
+}
@@ -0,0 +1,252 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportRecordDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserImportService.Format;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a bulk import file one row at a time, so memory use does not grow with the file.
+ * <p>
+ * CSV files start with a header row naming the columns (email, password or passwordHash,
+ * fullName, companyName; snake_case also accepted, other columns ignored). Fields may be quoted,
+ * with "" for a quote inside a quoted field; quoted line breaks are not supported. NDJSON files
+ * hold one JSON object per line with the same property names. Blank lines are skipped.
+ * A row that cannot be parsed, or a line longer than {@link #MAX_LINE_LENGTH} characters, is
+ * returned with an error instead of failing the import; an over-long line is skipped unread.
+ */
+public final class UserImportReader {
+
+    /**
+     * A data row of the file.
+     *
+     * @param line   Line number in the file (1-based)
+     * @param record The parsed row, or null if it could not be parsed
+     * @param error  Why the row could not be parsed, or null
+     */
+    public record Row(long line, UserImportRecordDto record, String error) {
+    }
+
+    /**
+     * Longest line read, in characters; far more than any valid row needs.
+     */
+    static final int MAX_LINE_LENGTH = 16_384;
+
+    private static final Map<String, String> CSV_COLUMNS = Map.of(
+            "email", "email",
+            "password", "password",
+            "passwordhash", "passwordHash",
+            "password_hash", "passwordHash",
+            "fullname", "fullName",
+            "full_name", "fullName",
+            "companyname", "companyName",
+            "company_name", "companyName"
+    );
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final JsonMapper jsonMapper;
+    private final StringBuilder lineBuffer = new StringBuilder();
+    private long line;
+    private boolean overLong;
+    private String[] columns;
+
+    /**
+     * Creates a reader, consuming the header row of a CSV file.
+     *
+     * @throws IllegalArgumentException if the CSV header lacks a required column
+     */
+    public UserImportReader(BufferedReader reader, Format format, JsonMapper jsonMapper) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    /**
+     * Reads the next data row.
+     *
+     * @return The row, or null at the end of the file
+     */
+    public Row next() throws IOException {
+        String text;
+        while ((text = readLine()) != null) {
+            if (overLong) {
+                return new Row(line, null, "Line is longer than " + MAX_LINE_LENGTH + " characters");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                UserImportRecordDto record = format == Format.CSV ? parseCsv(text) : parseJson(text);
+                return new Row(line, record, null);
+            } catch (IllegalArgumentException ex) {
+                return new Row(line, null, ex.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                columns = new String[0];
+                return;
+            }
+        } while (!overLong && text.isBlank());
+        if (overLong) {
+            throw new IllegalArgumentException("CSV header is longer than " + MAX_LINE_LENGTH + " characters");
+        }
+
+        List<String> names = splitCsv(text);
+        columns = new String[names.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String name = names.get(i);
+            columns[i] = name == null ? null : CSV_COLUMNS.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        List<String> present = Arrays.asList(columns);
+        if (!present.contains("email") || !present.contains("fullName") || !present.contains("companyName")
+                || !(present.contains("password") || present.contains("passwordHash"))) {
+            throw new IllegalArgumentException(
+                    "CSV header must name the email, password or passwordHash, fullName and companyName columns");
+        }
+    }
+
+    private UserImportRecordDto parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields.size() != columns.length) {
+            throw new IllegalArgumentException(
+                    "Row has " + fields.size() + " fields but the header has " + columns.length);
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                values.put(columns[i], fields.get(i));
+            }
+        }
+        return new UserImportRecordDto(
+                values.get("email"),
+                values.get("password"),
+                values.get("passwordHash"),
+                values.get("fullName"),
+                values.get("companyName")
+        );
+    }
+
+    private UserImportRecordDto parseJson(String text) {
+        UserImportRecordDto record;
+        try {
+            record = jsonMapper.readValue(text, UserImportRecordDto.class);
+        } catch (JacksonException ex) {
+            throw new IllegalArgumentException("Invalid JSON: " + ex.getOriginalMessage());
+        }
+        if (record == null) {
+            throw new IllegalArgumentException("Row is not a JSON object");
+        }
+        return new UserImportRecordDto(
+                trimToNull(record.email()),
+                record.password(),
+                trimToNull(record.passwordHash()),
+                trimToNull(record.fullName()),
+                trimToNull(record.companyName())
+        );
+    }
+
+    /**
+     * Splits a CSV line into fields, trimming unquoted whitespace; empty fields become null.
+     */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(fieldValue(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(fieldValue(field, wasQuoted));
+        return fields;
+    }
+
+    private static String fieldValue(StringBuilder field, boolean wasQuoted) {
+        String value = wasQuoted ? field.toString() : field.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * Reads a line like {@link BufferedReader#readLine()}, but stops keeping characters past
+     * {@link #MAX_LINE_LENGTH}; the rest of such a line is skipped and {@link #overLong} is set.
+     */
+    private String readLine() throws IOException {
+        lineBuffer.setLength(0);
+        overLong = false;
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        while (c >= 0 && c != '\n' && c != '\r') {
+            if (lineBuffer.length() < MAX_LINE_LENGTH) {
+                lineBuffer.append((char) c);
+            } else {
+                overLong = true;
+            }
+            c = reader.read();
+        }
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+
+        line++;
+        if (line == 1 && !lineBuffer.isEmpty() && lineBuffer.charAt(0) == '\uFEFF') {
+            lineBuffer.deleteCharAt(0);
+        }
+        return overLong ? "" : lineBuffer.toString();
+    }
+}
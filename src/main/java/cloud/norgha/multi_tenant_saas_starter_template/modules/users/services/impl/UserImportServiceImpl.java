@@ -0,0 +1,446 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.PasswordHashingOverloadedException;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashingExecutor;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportErrorDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportRecordDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserImportService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of UserImportService.
+ * <p>
+ * The file is read as it arrives and handled in chunks of {@code batch-size} rows. Plaintext
+ * passwords in a chunk are hashed in parallel slices on the password hashing pool, using at most
+ * {@code hash-parallelism} of its threads so logins keep the rest. The chunk's users are then
+ * written with one multi-row INSERT, and the tenant's user count, the rejected rows and the job's
+ * progress are updated in the same transaction. A job interrupted by a dropped connection or a
+ * crash therefore resumes exactly after its last committed chunk when the file is sent again.
+ * <p>
+ * Rows are checked individually: invalid rows and emails already registered in the tenant are
+ * reported as errors and the rest of the chunk is still imported. Exceeding the tenant's active
+ * user limit fails the job, keeping the chunks committed before it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    /** BCrypt hashes (with or without the {bcrypt} prefix) and prefixed Argon2 hashes. */
+    private static final Pattern PASSWORD_HASH = Pattern.compile(
+            "^(\\{bcrypt})?\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$|^\\{argon2}\\$argon2(id|i|d)\\$.+");
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private static final String CLAIM_JOB_SQL = """
+            INSERT INTO user_import_jobs (id, tenant_id, format, status)
+            VALUES (?, ?, ?, 'RUNNING')
+            ON CONFLICT (id) DO UPDATE
+                SET status = 'RUNNING', failure_reason = NULL, updated_at = now()
+                WHERE user_import_jobs.tenant_id = EXCLUDED.tenant_id
+                  AND user_import_jobs.format = EXCLUDED.format
+                  AND (user_import_jobs.status = 'FAILED'
+                       OR (user_import_jobs.status = 'RUNNING'
+                           AND user_import_jobs.updated_at < now() - make_interval(secs => ?)))
+            RETURNING rows_processed
+            """;
+
+    private static final String INSERT_USERS_SQL = """
+            INSERT INTO users (id, tenant_id, email, password_hash, full_name, company_name, role, active, created_at)
+            SELECT u.id, ?, u.email, u.password_hash, u.full_name, u.company_name, 'USER', TRUE, now()
+            FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[])
+                AS u(id, email, password_hash, full_name, company_name)
+            ON CONFLICT DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String INSERT_ERROR_SQL = """
+            INSERT INTO user_import_errors (job_id, line_number, email, message)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String UPDATE_PROGRESS_SQL = """
+            UPDATE user_import_jobs
+            SET rows_processed = ?, rows_imported = rows_imported + ?, rows_failed = rows_failed + ?, updated_at = now()
+            WHERE id = ?
+            """;
+
+    private static final String FINISH_JOB_SQL = """
+            UPDATE user_import_jobs SET status = ?, failure_reason = ?, updated_at = now() WHERE id = ?
+            """;
+
+    private static final String SELECT_JOB_SQL = """
+            SELECT id, tenant_id, status, rows_processed, rows_imported, rows_failed, failure_reason, created_at, updated_at
+            FROM user_import_jobs WHERE id = ?
+            """;
+
+    private static final String SELECT_ERRORS_SQL = """
+            SELECT line_number, email, message FROM user_import_errors
+            WHERE job_id = ? ORDER BY line_number LIMIT ?
+            """;
+
+    /** A valid row on its way into the users table; passwordHash is filled in by hashing. */
+    private static final class PendingUser {
+        private final long line;
+        private final UUID id = UUID.randomUUID();
+        private final UserImportRecordDto record;
+        private String passwordHash;
+        private String error;
+
+        private PendingUser(long line, UserImportRecordDto record) {
+            this.line = line;
+            this.record = record;
+            this.passwordHash = record.passwordHash();
+        }
+    }
+
+    private record Job(String tenantId, UserImportResponseDto summary) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TenantStatsService tenantStatsService;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final int batchSize;
+    private final int hashParallelism;
+    private final int maxReportedErrors;
+    private final long leaseSeconds;
+
+    public UserImportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor,
+            TenantStatsService tenantStatsService,
+            Validator validator,
+            JsonMapper jsonMapper,
+            @Value("${app.users.import.batch-size:1000}") int batchSize,
+            @Value("${app.users.import.hash-parallelism:0}") int hashParallelism,
+            @Value("${app.users.import.max-reported-errors:100}") int maxReportedErrors,
+            @Value("${app.users.import.lease-seconds:300}") long leaseSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.tenantStatsService = tenantStatsService;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.hashParallelism = hashParallelism > 0
+                ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.maxReportedErrors = maxReportedErrors;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * Runs outside a transaction: each chunk commits on its own, so progress survives a failure.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserImportResponseDto importUsers(UUID jobId, Format format, InputStream body) throws IOException {
+        String tenantId = TenantContext.requireTenantId();
+        UUID id = jobId != null ? jobId : UUID.randomUUID();
+
+        List<Long> claimed = jdbcTemplate.query(CLAIM_JOB_SQL, (rs, rowNum) -> rs.getLong(1),
+                id, tenantId, format.name(), leaseSeconds);
+        if (claimed.isEmpty()) {
+            Job existing = findJob(id);
+            if (existing != null && existing.tenantId().equals(tenantId)
+                    && "COMPLETED".equals(existing.summary().status())) {
+                return existing.summary();
+            }
+            throw new IllegalStateException("Import job " + id + " is already running or belongs to another import");
+        }
+
+        long skip = claimed.getFirst();
+        long processed = skip;
+        log.info("Importing users into tenant {} as job {} ({}, resuming after {} rows)", tenantId, id, format, skip);
+
+        try {
+            UserImportReader reader = new UserImportReader(
+                    new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, jsonMapper);
+            List<UserImportReader.Row> chunk = new ArrayList<>(batchSize);
+            UserImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    processed += chunk.size();
+                    importChunk(id, tenantId, chunk, processed);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processed += chunk.size();
+                importChunk(id, tenantId, chunk, processed);
+            }
+        } catch (IllegalStateException ex) {
+            log.warn("Import job {} stopped after {} rows: {}", id, processed, ex.getMessage());
+            finishJob(id, "FAILED", ex.getMessage());
+            return summary(id, tenantId);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Import job {} failed after {} rows: {}", id, processed, ex.getMessage());
+            finishJob(id, "FAILED", ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+            throw ex;
+        }
+
+        finishJob(id, "COMPLETED", null);
+        log.info("Import job {} completed after {} rows", id, processed);
+        return summary(id, tenantId);
+    }
+
+    @Override
+    public UserImportResponseDto getJob(UUID jobId) {
+        return summary(jobId, TenantContext.requireTenantId());
+    }
+
+    private void importChunk(UUID jobId, String tenantId, List<UserImportReader.Row> chunk, long processed) {
+        List<UserImportErrorDto> errors = new ArrayList<>();
+        List<PendingUser> pending = new ArrayList<>(chunk.size());
+
+        for (UserImportReader.Row row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.record());
+            if (error != null) {
+                errors.add(error(row.line(), row.record() == null ? null : row.record().email(), error));
+            } else {
+                pending.add(new PendingUser(row.line(), row.record()));
+            }
+        }
+
+        hashPasswords(pending);
+
+        List<PendingUser> valid = new ArrayList<>(pending.size());
+        for (PendingUser user : pending) {
+            if (user.error != null) {
+                errors.add(error(user.line, user.record.email(), user.error));
+            } else {
+                valid.add(user);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<UUID> inserted = insertUsers(tenantId, valid);
+            for (PendingUser user : valid) {
+                if (!inserted.contains(user.id)) {
+                    errors.add(error(user.line, user.record.email(), "Email already registered in this tenant"));
+                }
+            }
+            if (!inserted.isEmpty()) {
+                tenantStatsService.recordUsersCreated(tenantId, inserted.size());
+            }
+            if (!errors.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors, errors.size(), (ps, error) -> {
+                    ps.setObject(1, jobId);
+                    ps.setLong(2, error.line());
+                    ps.setString(3, error.email());
+                    ps.setString(4, error.message());
+                });
+            }
+            jdbcTemplate.update(UPDATE_PROGRESS_SQL, processed, inserted.size(), errors.size(), jobId);
+        });
+    }
+
+    private String validate(UserImportRecordDto record) {
+        Set<ConstraintViolation<UserImportRecordDto>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        boolean hasPassword = record.password() != null && !record.password().isBlank();
+        if (hasPassword == (record.passwordHash() != null)) {
+            return "Exactly one of password or passwordHash is required";
+        }
+        if (!hasPassword && !PASSWORD_HASH.matcher(record.passwordHash()).matches()) {
+            return "Password hash must be a BCrypt or {argon2} hash";
+        }
+        return null;
+    }
+
+    /**
+     * Hashes plaintext passwords in parallel slices, waiting for room when the hashing queue is full.
+     */
+    private void hashPasswords(List<PendingUser> pending) {
+        List<PendingUser> plaintext = pending.stream().filter(user -> user.passwordHash == null).toList();
+        if (plaintext.isEmpty()) {
+            return;
+        }
+
+        int sliceSize = (plaintext.size() + hashParallelism - 1) / hashParallelism;
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (int from = 0; from < plaintext.size(); from += sliceSize) {
+            List<PendingUser> slice = plaintext.subList(from, Math.min(from + sliceSize, plaintext.size()));
+            slices.add(submitHashing(() -> {
+                for (PendingUser user : slice) {
+                    try {
+                        user.passwordHash = passwordEncoder.encode(user.record.password());
+                    } catch (IllegalArgumentException ex) {
+                        user.error = ex.getMessage();
+                    }
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private <T> CompletableFuture<T> submitHashing(Supplier<T> operation) {
+        long backoffMillis = 10;
+        while (true) {
+            try {
+                return passwordHashingExecutor.submit(operation);
+            } catch (PasswordHashingOverloadedException ex) {
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Import was interrupted");
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 500);
+            }
+        }
+    }
+
+    /**
+     * Inserts the users in one statement, skipping emails already registered in the tenant.
+     *
+     * @return IDs of the users inserted
+     */
+    private Set<UUID> insertUsers(String tenantId, List<PendingUser> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        UUID[] ids = new UUID[users.size()];
+        String[] emails = new String[users.size()];
+        String[] hashes = new String[users.size()];
+        String[] fullNames = new String[users.size()];
+        String[] companyNames = new String[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            PendingUser user = users.get(i);
+            ids[i] = user.id;
+            emails[i] = user.record.email();
+            hashes[i] = user.passwordHash;
+            fullNames[i] = user.record.fullName();
+            companyNames[i] = user.record.companyName();
+        }
+
+        List<UUID> inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_USERS_SQL);
+            ps.setString(1, tenantId);
+            ps.setArray(2, connection.createArrayOf("uuid", ids));
+            ps.setArray(3, connection.createArrayOf("varchar", emails));
+            ps.setArray(4, connection.createArrayOf("varchar", hashes));
+            ps.setArray(5, connection.createArrayOf("varchar", fullNames));
+            ps.setArray(6, connection.createArrayOf("varchar", companyNames));
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+        return new HashSet<>(inserted);
+    }
+
+    private void finishJob(UUID jobId, String status, String failureReason) {
+        jdbcTemplate.update(FINISH_JOB_SQL, status, truncate(failureReason), jobId);
+    }
+
+    private UserImportResponseDto summary(UUID jobId, String tenantId) {
+        Job job = findJob(jobId);
+        if (job == null || !job.tenantId().equals(tenantId)) {
+            throw new EntityNotFoundException("Import job not found with ID: " + jobId);
+        }
+        return job.summary();
+    }
+
+    private Job findJob(UUID jobId) {
+        List<Job> jobs = jdbcTemplate.query(SELECT_JOB_SQL, (rs, rowNum) -> new Job(
+                rs.getString("tenant_id"),
+                new UserImportResponseDto(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("status"),
+                        rs.getLong("rows_processed"),
+                        rs.getLong("rows_imported"),
+                        rs.getLong("rows_failed"),
+                        rs.getString("failure_reason"),
+                        List.of(),
+                        toInstant(rs.getTimestamp("created_at")),
+                        toInstant(rs.getTimestamp("updated_at"))
+                )
+        ), jobId);
+        if (jobs.isEmpty()) {
+            return null;
+        }
+
+        Job job = jobs.getFirst();
+        if (job.summary().rowsFailed() == 0 || maxReportedErrors <= 0) {
+            return job;
+        }
+        List<UserImportErrorDto> errors = jdbcTemplate.query(SELECT_ERRORS_SQL, (rs, rowNum) -> new UserImportErrorDto(
+                rs.getLong("line_number"),
+                rs.getString("email"),
+                rs.getString("message")
+        ), jobId, maxReportedErrors);
+        UserImportResponseDto summary = job.summary();
+        return new Job(job.tenantId(), new UserImportResponseDto(
+                summary.jobId(), summary.status(), summary.rowsProcessed(), summary.rowsImported(),
+                summary.rowsFailed(), summary.failureReason(), errors, summary.createdAt(), summary.updatedAt()
+        ));
+    }
+
+    private static UserImportErrorDto error(long line, String email, String message) {
+        String reportedEmail = email != null && email.length() > 255 ? email.substring(0, 255) : email;
+        return new UserImportErrorDto(line, reportedEmail, truncate(message));
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH
+                ? message.substring(0, MAX_MESSAGE_LENGTH)
+                : message;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -1,10 +1,17 @@
 package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.impl;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.CreateUserRequestDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserResponseDto;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.entity.User;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.repository.UserRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.RevocationRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.TenantPrincipal;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,16 +36,32 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final InvalidationBus invalidationBus;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationRegistry revocationRegistry;
+    private final TenantStatsService tenantStatsService;
+
+    public UserServiceImpl(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            InvalidationBus invalidationBus,
+            RefreshTokenService refreshTokenService,
+            RevocationRegistry revocationRegistry,
+            TenantStatsService tenantStatsService
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.invalidationBus = invalidationBus;
+        this.refreshTokenService = refreshTokenService;
+        this.revocationRegistry = revocationRegistry;
+        this.tenantStatsService = tenantStatsService;
     }
 
     @Override
     @Transactional
     public UserResponseDto createUser(CreateUserRequestDto request) {
         log.debug("Creating user with email: {}", request.email());
+        String tenantId = TenantContext.requireTenantId();
 
         User user = new User(
                 request.email(),
@@ -50,6 +73,8 @@ public class UserServiceImpl implements UserService {
                 "USER" // Default role for new users
         );
 
+        // Counted only after hashing, so the tenant's stats row isn't locked for the whole hash
+        tenantStatsService.recordUserCreated(tenantId);
         User saved = userRepository.save(user);
         log.info("Created user with ID: {}", saved.getId());
 
@@ -60,14 +85,12 @@ public class UserServiceImpl implements UserService {
     public UserResponseDto getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (!(authentication instanceof TenantPrincipal principal)) {
             throw new IllegalStateException("No authenticated user found");
         }
 
-        String userId = authentication.getName();
-        UUID userUuid = UUID.fromString(userId);
-
-        User user = userRepository.findById(userUuid)
+        UUID userId = principal.getUserId();
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + userId));
 
         return mapToResponse(user);
@@ -120,8 +143,14 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + id));
 
+        if (user.isActive()) {
+            tenantStatsService.recordUserDeactivated(user.getTenantId());
+        }
         user.setActive(false);
         userRepository.save(user);
+        refreshTokenService.revokeAll(id);
+        revocationRegistry.revokeUser(id.toString());
+        invalidationBus.publish(InvalidationEvent.Type.USER_STATUS, id.toString());
         log.info("Deactivated user with ID: {}", id);
     }
 
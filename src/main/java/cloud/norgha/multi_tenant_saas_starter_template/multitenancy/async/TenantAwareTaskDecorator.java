@@ -1,24 +1,32 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.async;
 
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
 import org.springframework.core.task.TaskDecorator;
 
 /**
  * Task decorator that captures and restores tenant context in async tasks.
  * Ensures that @Async methods have access to the tenant context from the calling thread.
+ * A scoped tenant binding is re-bound as a scoped value in the task, so pooled and virtual
+ * threads never retain it after the task completes.
  */
 public class TenantAwareTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(Runnable runnable) {
         // Capture current tenant context
-        String tenantId = TenantContext.getTenantId();
+        TenantId tenant = TenantContext.getTenant();
+        boolean scoped = TenantContext.isScopedBound();
         
         return () -> {
+            if (tenant != null && scoped) {
+                TenantContext.runWithTenant(tenant, runnable::run);
+                return;
+            }
             try {
                 // Restore tenant context in async thread
-                if (tenantId != null) {
-                    TenantContext.setTenantId(tenantId);
+                if (tenant != null) {
+                    TenantContext.setTenant(tenant);
                 }
                 runnable.run();
             } finally {
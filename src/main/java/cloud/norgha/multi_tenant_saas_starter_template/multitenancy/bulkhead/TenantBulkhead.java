@@ -0,0 +1,154 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.bulkhead;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tenant concurrency limits.
+ * <p>
+ * Each tenant gets its own fair semaphore sized from {@link TenantSnapshot#maxConcurrentRequests()}
+ * or the global default, so a tenant saturating its slots only queues behind itself.
+ * Waiters are served in arrival order and give up after a bounded wait; when too many are
+ * already queued the request is turned away without waiting at all.
+ */
+@Component
+public class TenantBulkhead {
+
+    /**
+     * Result of trying to enter a tenant's bulkhead.
+     */
+    public enum Outcome {
+        ADMITTED,
+        /** The tenant's slots stayed busy for the whole wait. */
+        TIMED_OUT,
+        /** Too many requests were already waiting for the tenant. */
+        QUEUE_FULL
+    }
+
+    private final TenantRegistry tenantRegistry;
+    private final int defaultMaxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final long queueTimeoutMillis;
+
+    private final Map<TenantId, Slots> slots = new ConcurrentHashMap<>();
+
+    public TenantBulkhead(
+            TenantRegistry tenantRegistry,
+            @Value("${app.tenancy.bulkhead.default-max-concurrent-requests:10}") int defaultMaxConcurrentRequests,
+            @Value("${app.tenancy.bulkhead.max-queued-requests:20}") int maxQueuedRequests,
+            @Value("${app.tenancy.bulkhead.queue-timeout-ms:500}") long queueTimeoutMillis
+    ) {
+        this.tenantRegistry = tenantRegistry;
+        this.defaultMaxConcurrentRequests = defaultMaxConcurrentRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * Tries to take an in-flight slot for the tenant, waiting up to the queue timeout.
+     * An admitted result must be released exactly once when the request completes.
+     *
+     * @param tenant The canonical tenant ID
+     * @return The admission result
+     */
+    public Admission enter(TenantId tenant) {
+        Slots tenantSlots = slotsFor(tenant);
+        Semaphore semaphore = tenantSlots.semaphore;
+
+        try {
+            // The timed form honours fairness, so a free slot still goes to a request already waiting
+            if (semaphore.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return new Admission(Outcome.ADMITTED, semaphore);
+            }
+            if (semaphore.getQueueLength() >= maxQueuedRequests) {
+                return new Admission(Outcome.QUEUE_FULL, null);
+            }
+            if (semaphore.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return new Admission(Outcome.ADMITTED, semaphore);
+            }
+            return new Admission(Outcome.TIMED_OUT, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Admission(Outcome.QUEUE_FULL, null);
+        }
+    }
+
+    /**
+     * Gets the in-flight limit currently applied to a tenant.
+     *
+     * @param tenant The canonical tenant ID
+     * @return The configured override, or the global default
+     */
+    public int limitFor(TenantId tenant) {
+        TenantSnapshot snapshot = tenantRegistry.get(tenant.value());
+        if (snapshot != null && snapshot.maxConcurrentRequests() != null) {
+            return snapshot.maxConcurrentRequests();
+        }
+        return defaultMaxConcurrentRequests;
+    }
+
+    /**
+     * Returns the tenant's slots, replacing them when the limit has changed.
+     * Requests admitted under the old limit release into the old semaphore, which is then discarded.
+     */
+    private Slots slotsFor(TenantId tenant) {
+        int limit = limitFor(tenant);
+        Slots current = slots.get(tenant);
+        if (current != null && current.limit == limit) {
+            return current;
+        }
+        return slots.compute(tenant, (key, existing) ->
+                existing != null && existing.limit == limit ? existing : new Slots(limit));
+    }
+
+    private static final class Slots {
+        final int limit;
+        final Semaphore semaphore;
+
+        Slots(int limit) {
+            this.limit = limit;
+            this.semaphore = new Semaphore(limit, true);
+        }
+    }
+
+    /**
+     * Outcome of {@link #enter(TenantId)}, holding the slot to release when admitted.
+     */
+    public static final class Admission {
+
+        private final Outcome outcome;
+        private Semaphore semaphore;
+
+        private Admission(Outcome outcome, Semaphore semaphore) {
+            this.outcome = outcome;
+            this.semaphore = semaphore;
+        }
+
+        public Outcome outcome() {
+            return outcome;
+        }
+
+        public boolean admitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+
+        /**
+         * Returns the slot to the tenant's bulkhead. Safe to call more than once.
+         */
+        public void release() {
+            Semaphore held = semaphore;
+            if (held != null) {
+                semaphore = null;
+                held.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.bulkhead;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admission filter that caps in-flight requests per tenant.
+ * Runs right after TenantFilter so one tenant cannot occupy every worker thread and database connection.
+ * Returns 429 when the tenant's slots stay busy for the whole wait, and 503 when its queue is full.
+ * A request that goes async (a controller returning a CompletableFuture) keeps its slot until the
+ * async request completes, errors or times out, not just until the servlet thread is handed back.
+ */
+@Component
+public class TenantBulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantBulkheadFilter.class);
+
+    private final TenantBulkhead bulkhead;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+
+    public TenantBulkheadFilter(
+            TenantBulkhead bulkhead,
+            @Value("${app.tenancy.bulkhead.enabled:true}") boolean enabled,
+            @Value("${app.tenancy.bulkhead.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.bulkhead = bulkhead;
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Same scope as TenantFilter: admin, swagger and actuator paths carry no tenant
+        String path = request.getRequestURI();
+        return !enabled
+                || path.startsWith("/api/v1/admin/")
+                || path.startsWith("/swagger-ui")
+                || path.startsWith("/v3/api-docs")
+                || path.startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        TenantId tenant = TenantContext.getTenant();
+        if (tenant == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantBulkhead.Admission admission = bulkhead.enter(tenant);
+        if (!admission.admitted()) {
+            reject(response, tenant, admission.outcome());
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(admission));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                admission.release();
+            }
+        }
+    }
+
+    /**
+     * Releases the slot when an async request ends; release is idempotent, so ending twice is harmless.
+     */
+    private record ReleaseOnCompletion(TenantBulkhead.Admission admission) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A re-started async cycle keeps the slot; keep listening to it
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response, TenantId tenant, TenantBulkhead.Outcome outcome)
+            throws IOException {
+        HttpStatus status = outcome == TenantBulkhead.Outcome.QUEUE_FULL
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.TOO_MANY_REQUESTS;
+        log.warn("Tenant {} over concurrency limit {} ({})", tenant, bulkhead.limitFor(tenant), outcome);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(
+            "{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase()
+                    + "\",\"message\":\"Too many concurrent requests for this tenant. Try again later.\"}"
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent Space-Saving sketch for finding the busiest tenants in fixed memory.
+ * <p>
+ * Counters live in an open-addressed table keyed by TenantId identity (IDs are interned). A tenant
+ * not in the table takes a free slot in its probe window or replaces the smallest counter there,
+ * inheriting its count, so estimates can only overcount, by at most that inherited count. Limiting
+ * replacement to the probe window (instead of the global minimum) keeps increments lock-free and
+ * allocation-free at the cost of slightly looser bounds; with a table several times larger than K
+ * the heavy hitters are still retained. Races between increments may drop or misattribute a count,
+ * which is acceptable for ranking.
+ */
+final class SpaceSavingSketch {
+
+    private static final int MAX_PROBES = 8;
+
+    private final int mask;
+    private final AtomicReferenceArray<TenantId> keys;
+    private final AtomicLongArray counts;
+
+    /**
+     * @param capacity Number of counters, rounded up to a power of two
+     */
+    SpaceSavingSketch(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MAX_PROBES, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.keys = new AtomicReferenceArray<>(size);
+        this.counts = new AtomicLongArray(size);
+    }
+
+    /**
+     * Counts one occurrence of the tenant.
+     */
+    void increment(TenantId tenant) {
+        int start = spread(tenant.hashCode()) & mask;
+        int minIndex = start;
+        long minCount = Long.MAX_VALUE;
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int i = (start + probe) & mask;
+            TenantId current = keys.get(i);
+            if (current == tenant) {
+                counts.incrementAndGet(i);
+                return;
+            }
+            if (current == null) {
+                if (keys.compareAndSet(i, null, tenant) || keys.get(i) == tenant) {
+                    counts.incrementAndGet(i);
+                    return;
+                }
+                continue;
+            }
+            long count = counts.get(i);
+            if (count < minCount) {
+                minCount = count;
+                minIndex = i;
+            }
+        }
+
+        // Space-Saving replacement: the newcomer takes over the smallest counter in its window
+        TenantId victim = keys.get(minIndex);
+        if (victim != null && keys.compareAndSet(minIndex, victim, tenant)) {
+            counts.incrementAndGet(minIndex);
+        }
+    }
+
+    /**
+     * Gets the tenants with the highest estimated counts.
+     *
+     * @param k Maximum number of tenants to return
+     * @return Heavy hitters, busiest first
+     */
+    List<Entry> top(int k) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i <= mask; i++) {
+            TenantId key = keys.get(i);
+            long count = counts.get(i);
+            if (key != null && count > 0) {
+                entries.add(new Entry(key, count));
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.size() > k ? List.copyOf(entries.subList(0, k)) : List.copyOf(entries);
+    }
+
+    /**
+     * Halves every counter so the ranking follows recent traffic rather than all-time totals.
+     */
+    void decay() {
+        for (int i = 0; i <= mask; i++) {
+            long count;
+            do {
+                count = counts.get(i);
+            } while (count > 0 && !counts.compareAndSet(i, count, count >>> 1));
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A tenant and its estimated (decayed) request count.
+     */
+    record Entry(TenantId tenant, long count) {}
+}
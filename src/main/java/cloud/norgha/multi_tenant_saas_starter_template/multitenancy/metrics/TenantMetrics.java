@@ -0,0 +1,184 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant request metrics with bounded cardinality.
+ * <p>
+ * Every request feeds a {@link SpaceSavingSketch}. The top-K tenants by recent traffic get their own
+ * Micrometer meters (tag tenant=&lt;id&gt;, tenant.bucket=top); all other tenants share one set tagged
+ * tenant=other, tenant.bucket=other. Roughly once per rebalance interval, the request that crosses the
+ * deadline re-ranks the sketch, registers meters for newcomers, removes meters of tenants that dropped
+ * out and halves the sketch counters.
+ * <p>
+ * Between rebalances recording is allocation-free: a sketch increment, one immutable map lookup and
+ * a Timer/Counter update on pre-registered meters.
+ */
+@Component
+public class TenantMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMetrics.class);
+
+    public static final String REQUESTS_METER = "tenant.requests";
+    public static final String ERRORS_METER = "tenant.requests.errors";
+    public static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int topK;
+    private final long rebalanceIntervalNanos;
+    private final SpaceSavingSketch sketch;
+    private final AtomicLong nextRebalance;
+    private final TenantMeters otherMeters;
+
+    private volatile Map<TenantId, TenantMeters> topMeters = Map.of();
+    private volatile List<SpaceSavingSketch.Entry> ranking = List.of();
+
+    public TenantMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.tenants.top-k:20}") int topK,
+            @Value("${app.metrics.tenants.sketch-capacity:256}") int sketchCapacity,
+            @Value("${app.metrics.tenants.rebalance-interval-seconds:60}") long rebalanceIntervalSeconds
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.rebalanceIntervalNanos = TimeUnit.SECONDS.toNanos(rebalanceIntervalSeconds);
+        this.sketch = new SpaceSavingSketch(Math.max(sketchCapacity, topK * 4));
+        this.nextRebalance = new AtomicLong(System.nanoTime() + rebalanceIntervalNanos);
+        this.otherMeters = TenantMeters.register(meterRegistry, OTHER, OTHER);
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param tenant        The canonical tenant ID
+     * @param durationNanos Time spent in the filter chain
+     * @param failed        Whether the request ended in a 5xx status or an exception
+     */
+    public void record(TenantId tenant, long durationNanos, boolean failed) {
+        sketch.increment(tenant);
+
+        TenantMeters meters = topMeters.get(tenant);
+        (meters != null ? meters : otherMeters).record(durationNanos, failed);
+
+        long now = System.nanoTime();
+        long due = nextRebalance.get();
+        if (now - due >= 0 && nextRebalance.compareAndSet(due, now + rebalanceIntervalNanos)) {
+            rebalance();
+        }
+    }
+
+    /**
+     * Gets statistics for the metered tenants, busiest first, followed by the "other" bucket.
+     */
+    public List<TenantUsage> usage() {
+        Map<TenantId, TenantMeters> meters = topMeters;
+        List<TenantUsage> usage = new ArrayList<>(meters.size() + 1);
+        for (SpaceSavingSketch.Entry entry : ranking) {
+            TenantMeters tenantMeters = meters.get(entry.tenant());
+            if (tenantMeters != null) {
+                usage.add(tenantMeters.usage(entry.tenant().value(), entry.count()));
+            }
+        }
+        usage.add(otherMeters.usage(OTHER, 0));
+        return usage;
+    }
+
+    /**
+     * Re-ranks the sketch and swaps the set of metered tenants.
+     * Synchronized only against a concurrent rebalance, never against recording.
+     */
+    synchronized void rebalance() {
+        try {
+            List<SpaceSavingSketch.Entry> top = sketch.top(topK);
+            Map<TenantId, TenantMeters> current = topMeters;
+            Map<TenantId, TenantMeters> next = new HashMap<>(top.size());
+
+            for (SpaceSavingSketch.Entry entry : top) {
+                TenantMeters existing = current.get(entry.tenant());
+                next.put(entry.tenant(), existing != null
+                        ? existing
+                        : TenantMeters.register(meterRegistry, entry.tenant().value(), "top"));
+            }
+            current.forEach((tenant, meters) -> {
+                if (!next.containsKey(tenant)) {
+                    meters.remove(meterRegistry);
+                }
+            });
+
+            topMeters = Map.copyOf(next);
+            ranking = top;
+            sketch.decay();
+        } catch (RuntimeException ex) {
+            log.warn("Tenant metrics rebalance failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Meters for one tenant or for the "other" bucket.
+     */
+    private record TenantMeters(Timer requests, Counter errors) {
+
+        static TenantMeters register(MeterRegistry registry, String tenant, String bucket) {
+            Timer requests = Timer.builder(REQUESTS_METER)
+                    .description("Requests handled per tenant")
+                    .tag("tenant", tenant)
+                    .tag("tenant.bucket", bucket)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            Counter errors = Counter.builder(ERRORS_METER)
+                    .description("Requests per tenant that failed with a 5xx status or an exception")
+                    .tag("tenant", tenant)
+                    .tag("tenant.bucket", bucket)
+                    .register(registry);
+            return new TenantMeters(requests, errors);
+        }
+
+        void record(long durationNanos, boolean failed) {
+            requests.record(durationNanos, TimeUnit.NANOSECONDS);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        void remove(MeterRegistry registry) {
+            registry.remove(requests);
+            registry.remove(errors);
+        }
+
+        TenantUsage usage(String tenant, long estimatedRecentRequests) {
+            HistogramSnapshot snapshot = requests.takeSnapshot();
+            double p99 = 0;
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.99) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return new TenantUsage(
+                    tenant,
+                    estimatedRecentRequests,
+                    snapshot.count(),
+                    (long) errors.count(),
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    p99
+            );
+        }
+    }
+}
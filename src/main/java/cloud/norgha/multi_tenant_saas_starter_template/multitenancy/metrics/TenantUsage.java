@@ -0,0 +1,22 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics;
+
+/**
+ * Request statistics for one metered tenant, or for all other tenants combined.
+ *
+ * @param tenantId                Tenant ID, or "other" for the remaining tenants
+ * @param estimatedRecentRequests Decayed heavy-hitter estimate used for ranking (0 for "other")
+ * @param requests                Requests recorded since the tenant's meters were created
+ * @param errors                  Requests that failed with a 5xx status or an exception
+ * @param meanLatencyMs           Mean latency in milliseconds
+ * @param maxLatencyMs            Maximum latency in the current window in milliseconds
+ * @param p99LatencyMs            99th percentile latency in milliseconds
+ */
+public record TenantUsage(
+        String tenantId,
+        long estimatedRecentRequests,
+        long requests,
+        long errors,
+        double meanLatencyMs,
+        double maxLatencyMs,
+        double p99LatencyMs
+) {}
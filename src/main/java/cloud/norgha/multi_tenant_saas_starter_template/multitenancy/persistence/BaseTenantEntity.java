@@ -2,6 +2,7 @@ package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.persistence
 
 
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantMissingException;
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
@@ -21,7 +22,7 @@ public class BaseTenantEntity {
 
     @PrePersist
     protected void assignTenant(){
-        String currentTenant = TenantContext.getTenantId();
+        TenantId currentTenant = TenantContext.getTenant();
 
         if(currentTenant == null){
             throw new TenantMissingException("TenantContext not set before persisting entity: " + getClass().getSimpleName());
@@ -29,6 +30,6 @@ public class BaseTenantEntity {
 
         }
 
-        this.tenantId = currentTenant;
+        this.tenantId = currentTenant.value();
     }
 }
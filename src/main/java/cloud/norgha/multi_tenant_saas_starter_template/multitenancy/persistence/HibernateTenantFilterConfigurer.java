@@ -2,6 +2,7 @@ package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.persistence
 
 
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.hibernate.Filter;
@@ -16,16 +17,16 @@ public class HibernateTenantFilterConfigurer {
 
 
     public void enableTenantFilter(){
-        String tenantId = TenantContext.getTenantId();
+        TenantId tenant = TenantContext.getTenant();
 
-        if(tenantId == null){
+        if(tenant == null){
             throw new IllegalStateException("TenantContext is missing when enabling Hibernate filter");
         }
 
         Session session = entityManager.unwrap(Session.class);
 
         Filter filter = session.enableFilter("tenantFilter");
-        filter.setParameter("tenantId", tenantId);
+        filter.setParameter("tenantId", tenant.value());
     }
 
 
@@ -0,0 +1,83 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.quota;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.TenantPrincipal;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Enforces plan-tier request quotas on authenticated tenant API traffic.
+ * Runs after JwtAuthenticationFilter, so only requests carrying a valid tenant token are counted;
+ * returns 429 with Retry-After once the tenant's per-second or daily quota is spent.
+ */
+@Component
+public class TenantQuotaFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantQuotaFilter.class);
+
+    private final TenantQuotas quotas;
+    private final boolean enabled;
+
+    public TenantQuotaFilter(
+            TenantQuotas quotas,
+            @Value("${app.tenancy.quota.enabled:true}") boolean enabled
+    ) {
+        this.quotas = quotas;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/api/v1/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        TenantId tenant = TenantContext.getTenant();
+        if (tenant == null || !(SecurityContextHolder.getContext().getAuthentication() instanceof TenantPrincipal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantQuotas.Decision decision = quotas.tryAcquire(tenant);
+        if (!decision.admitted()) {
+            reject(response, tenant, decision);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, TenantId tenant, TenantQuotas.Decision decision)
+            throws IOException {
+        String message = decision.outcome() == TenantQuotas.Outcome.DAILY_EXCEEDED
+                ? "Daily request quota exceeded for this tenant."
+                : "Request rate quota exceeded for this tenant. Try again later.";
+        log.warn("Tenant {} over quota ({})", tenant, decision.outcome());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType("application/json");
+        response.getWriter().write(
+            "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"" + message + "\"}"
+        );
+    }
+}
@@ -0,0 +1,341 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.quota;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant request quotas: a per-second rate and a daily total, set by the tenant's plan tier
+ * unless overridden on the tenant.
+ * <p>
+ * Both are enforced in memory. The per-second quota is a token bucket holding one second of requests,
+ * kept as a single CAS-updated timestamp per tenant. The daily quota counts requests per UTC day; every
+ * persist interval each node adds what it counted to {@code tenant_quota_usage} and reads back every
+ * tenant's total for the day, so the daily quota holds across nodes to within one interval of traffic.
+ * Requests never wait on the database.
+ */
+@Component
+public class TenantQuotas {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantQuotas.class);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final String ADD_USAGE_SQL = """
+            INSERT INTO tenant_quota_usage (tenant_id, usage_date, requests)
+            VALUES (?, ?, ?)
+            ON CONFLICT (tenant_id, usage_date)
+            DO UPDATE SET requests = tenant_quota_usage.requests + EXCLUDED.requests
+            """;
+
+    /**
+     * Quotas in force for a tenant. A daily quota of 0 means unlimited.
+     */
+    public record Limits(Tenant.PlanTier planTier, int requestsPerSecond, long requestsPerDay) {
+    }
+
+    /**
+     * Result of counting a request against a tenant's quotas.
+     */
+    public enum Outcome {
+        ADMITTED,
+        /** The tenant spent its per-second quota. */
+        RATE_EXCEEDED,
+        /** The tenant spent its quota for the UTC day. */
+        DAILY_EXCEEDED
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire(TenantId)}, with how long a rejected client should wait.
+     */
+    public record Decision(Outcome outcome, long retryAfterSeconds) {
+
+        public boolean admitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+    }
+
+    /**
+     * A tenant's quotas and what it has used of them today.
+     */
+    public record Status(Limits limits, long requestsToday, Instant resetsAt) {
+    }
+
+    private final TenantRegistry tenantRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Tenant.PlanTier, Limits> planLimits = new EnumMap<>(Tenant.PlanTier.class);
+    private final long persistIntervalSeconds;
+    private final int retentionDays;
+
+    private final Map<TenantId, Usage> usage = new ConcurrentHashMap<>();
+    private final long origin = System.nanoTime();
+
+    private ScheduledExecutorService persister;
+    private volatile long prunedDay = -1;
+
+    public TenantQuotas(
+            TenantRegistry tenantRegistry,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.tenancy.quota.free.requests-per-second:10}") int freePerSecond,
+            @Value("${app.tenancy.quota.free.requests-per-day:100000}") long freePerDay,
+            @Value("${app.tenancy.quota.standard.requests-per-second:50}") int standardPerSecond,
+            @Value("${app.tenancy.quota.standard.requests-per-day:1000000}") long standardPerDay,
+            @Value("${app.tenancy.quota.enterprise.requests-per-second:200}") int enterprisePerSecond,
+            @Value("${app.tenancy.quota.enterprise.requests-per-day:0}") long enterprisePerDay,
+            @Value("${app.tenancy.quota.persist-interval-seconds:10}") long persistIntervalSeconds,
+            @Value("${app.tenancy.quota.usage-retention-days:90}") int retentionDays
+    ) {
+        this.tenantRegistry = tenantRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.planLimits.put(Tenant.PlanTier.FREE, new Limits(Tenant.PlanTier.FREE, freePerSecond, freePerDay));
+        this.planLimits.put(Tenant.PlanTier.STANDARD,
+                new Limits(Tenant.PlanTier.STANDARD, standardPerSecond, standardPerDay));
+        this.planLimits.put(Tenant.PlanTier.ENTERPRISE,
+                new Limits(Tenant.PlanTier.ENTERPRISE, enterprisePerSecond, enterprisePerDay));
+        this.persistIntervalSeconds = persistIntervalSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (persistIntervalSeconds <= 0) {
+            return;
+        }
+        try {
+            pullUsage(currentDay());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to load today's tenant quota usage: {}", ex.getMessage());
+        }
+        persister = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("tenant-quota-persist").daemon().factory());
+        persister.scheduleWithFixedDelay(this::persistQuietly,
+                persistIntervalSeconds, persistIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (persister != null) {
+            persister.shutdownNow();
+            persistQuietly();
+        }
+    }
+
+    /**
+     * Counts one request against the tenant's per-second and daily quotas.
+     *
+     * @param tenant The canonical tenant ID
+     * @return Whether the request is admitted
+     */
+    public Decision tryAcquire(TenantId tenant) {
+        Limits limits = limitsFor(tenant);
+        Usage tenantUsage = usage.computeIfAbsent(tenant, key -> new Usage());
+
+        long waitNanos = tenantUsage.takeToken(limits.requestsPerSecond(), System.nanoTime() - origin);
+        if (waitNanos > 0) {
+            return new Decision(Outcome.RATE_EXCEEDED, Math.max(1, ceilSeconds(waitNanos)));
+        }
+
+        long day = currentDay();
+        if (!tenantUsage.countToday(day, limits.requestsPerDay())) {
+            return new Decision(Outcome.DAILY_EXCEEDED, secondsUntilNextDay());
+        }
+        return new Decision(Outcome.ADMITTED, 0);
+    }
+
+    /**
+     * Gets the quotas currently applied to a tenant.
+     *
+     * @param tenant The canonical tenant ID
+     * @return The plan's quotas with any per-tenant overrides applied
+     */
+    public Limits limitsFor(TenantId tenant) {
+        TenantSnapshot snapshot = tenantRegistry.get(tenant.value());
+        Tenant.PlanTier tier = snapshot != null && snapshot.planTier() != null ? snapshot.planTier() : Tenant.PlanTier.FREE;
+        Limits plan = planLimits.get(tier);
+        if (snapshot == null || (snapshot.requestsPerSecond() == null && snapshot.requestsPerDay() == null)) {
+            return plan;
+        }
+        return new Limits(
+                tier,
+                snapshot.requestsPerSecond() != null ? snapshot.requestsPerSecond() : plan.requestsPerSecond(),
+                snapshot.requestsPerDay() != null ? snapshot.requestsPerDay() : plan.requestsPerDay()
+        );
+    }
+
+    /**
+     * Gets a tenant's quotas and usage for the current UTC day.
+     */
+    public Status status(TenantId tenant) {
+        long day = currentDay();
+        Usage tenantUsage = usage.get(tenant);
+        long requestsToday = tenantUsage != null && tenantUsage.day == day ? tenantUsage.today.get() : 0;
+        return new Status(limitsFor(tenant), requestsToday, LocalDate.ofEpochDay(day + 1).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * Adds this node's uncounted requests to the shared daily totals and reads every tenant's total back.
+     */
+    public void persist() {
+        long day = currentDay();
+        List<Object[]> batch = new ArrayList<>();
+        List<Usage> flushed = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        usage.forEach((tenant, tenantUsage) -> {
+            if (tenantUsage.day != day) {
+                return;
+            }
+            long delta = tenantUsage.unpersisted.getAndSet(0);
+            if (delta > 0) {
+                batch.add(new Object[]{tenant.value(), Date.valueOf(LocalDate.ofEpochDay(day)), delta});
+                flushed.add(tenantUsage);
+                deltas.add(delta);
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(ADD_USAGE_SQL, batch);
+            } catch (RuntimeException ex) {
+                // Keep the counts for the next attempt
+                for (int i = 0; i < flushed.size(); i++) {
+                    flushed.get(i).unpersisted.addAndGet(deltas.get(i));
+                }
+                throw ex;
+            }
+        }
+        pullUsage(day);
+
+        if (prunedDay != day) {
+            prunedDay = day;
+            jdbcTemplate.update("DELETE FROM tenant_quota_usage WHERE usage_date < ?",
+                    Date.valueOf(LocalDate.ofEpochDay(day - retentionDays)));
+        }
+    }
+
+    private void pullUsage(long day) {
+        jdbcTemplate.query(
+                "SELECT tenant_id, requests FROM tenant_quota_usage WHERE usage_date = ?",
+                rs -> {
+                    Usage tenantUsage = usage.computeIfAbsent(TenantId.of(rs.getString(1)), key -> new Usage());
+                    tenantUsage.mergeTotal(day, rs.getLong(2));
+                },
+                Date.valueOf(LocalDate.ofEpochDay(day)));
+    }
+
+    private void persistQuietly() {
+        try {
+            persist();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to persist tenant quota usage: {}", ex.getMessage());
+        }
+    }
+
+    private static long currentDay() {
+        return Math.floorDiv(System.currentTimeMillis(), TimeUnit.DAYS.toMillis(1));
+    }
+
+    private static long secondsUntilNextDay() {
+        long millisPerDay = TimeUnit.DAYS.toMillis(1);
+        long remaining = millisPerDay - Math.floorMod(System.currentTimeMillis(), millisPerDay);
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * One tenant's per-second bucket and daily count.
+     */
+    private static final class Usage {
+
+        // Theoretical arrival time of the per-second bucket, relative to origin
+        private final AtomicLong tat = new AtomicLong();
+
+        // Requests today (this node's plus the last known total from other nodes)
+        private final AtomicLong today = new AtomicLong();
+        // Requests counted here that are not yet in tenant_quota_usage
+        private final AtomicLong unpersisted = new AtomicLong();
+        private volatile long day = currentDay();
+
+        /**
+         * Takes a token from a bucket of one second's requests.
+         *
+         * @return 0 if taken, otherwise the time until a token is available
+         */
+        long takeToken(int perSecond, long now) {
+            long interval = Math.max(1, NANOS_PER_SECOND / perSecond);
+            long burst = interval * perSecond;
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + interval;
+                if (next - now > burst) {
+                    return next - burst - now;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Counts a request against the day's quota (0 for unlimited), unless it is already spent.
+         */
+        boolean countToday(long currentDay, long perDay) {
+            rollOver(currentDay);
+            if (today.incrementAndGet() > perDay && perDay > 0) {
+                today.decrementAndGet();
+                return false;
+            }
+            unpersisted.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * Raises today's count to the cluster total plus what this node has yet to persist.
+         */
+        void mergeTotal(long totalDay, long total) {
+            rollOver(totalDay);
+            if (day == totalDay) {
+                long known = total + unpersisted.get();
+                today.accumulateAndGet(known, Math::max);
+            }
+        }
+
+        private void rollOver(long currentDay) {
+            if (day < currentDay) {
+                synchronized (this) {
+                    if (day < currentDay) {
+                        // Counts not yet persisted for the previous day are dropped with it
+                        today.set(0);
+                        unpersisted.set(0);
+                        day = currentDay;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,12 +7,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JWT Authentication filter for admin routes.
@@ -27,10 +24,18 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenService tokenService;
-
-    public AdminJwtAuthenticationFilter(JwtTokenService tokenService) {
-        this.tokenService = tokenService;
+    private final VerifiedTokenCache tokenCache;
+    private final RevocationRegistry revocationRegistry;
+    private final PermissionRegistry permissionRegistry;
+
+    public AdminJwtAuthenticationFilter(
+            VerifiedTokenCache tokenCache,
+            RevocationRegistry revocationRegistry,
+            PermissionRegistry permissionRegistry
+    ) {
+        this.tokenCache = tokenCache;
+        this.revocationRegistry = revocationRegistry;
+        this.permissionRegistry = permissionRegistry;
     }
 
     @Override
@@ -58,36 +63,32 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(BEARER_PREFIX.length());
 
         try {
-            Jws<Claims> parsed = tokenService.parseAndValidate(token);
-            Claims claims = parsed.getPayload();
-
-            // Extract user info, roles, and permissions (NO tenant validation for admin)
-            String userId = claims.getSubject();
-            @SuppressWarnings("unchecked")
-            List<String> roles = claims.get("roles", List.class);
-            @SuppressWarnings("unchecked")
-            List<String> permissions = claims.get("permissions", List.class);
-
-            // Build authorities from roles (ROLE_X) and permissions
-            List<SimpleGrantedAuthority> authorities = new java.util.ArrayList<>();
-            
-            if (roles != null) {
-                roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
-            }
-            
-            if (permissions != null) {
-                permissions.forEach(perm -> authorities.add(new SimpleGrantedAuthority(perm)));
+            VerifiedToken verified = tokenCache.verify(token);
+
+            // Deactivated users and tenants are rejected without waiting for the token to expire
+            if (revocationRegistry.isRevoked(verified)) {
+                log.warn("Revoked token presented for {}", verified.subject());
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+                return;
             }
 
-            // Create authentication token with combined authorities
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId,
-                    null,
-                    authorities
-            );
+            // Authorities combine roles (ROLE_X) and permissions (NO tenant validation for admin)
+            String userId = verified.subject();
+
+            // Bitset tokens map to a shared authority list; older tokens list permissions by name
+            Authentication authentication;
+            if (verified.permissions() != null) {
+                authentication = new SystemAdminAuthentication(
+                        userId,
+                        permissionRegistry.authoritiesFor(verified.authorities(), verified.permissions()),
+                        verified.permissions()
+                );
+            } else {
+                authentication = new UsernamePasswordAuthenticationToken(userId, null, verified.authorities());
+            }
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Admin authenticated: {} with roles: {} and permissions: {}", userId, roles, permissions);
+            log.debug("Admin authenticated: {} with authorities: {}", userId, authentication.getAuthorities());
 
         } catch (Exception ex) {
             log.warn("Admin JWT authentication failed: {}", ex.getMessage());
@@ -0,0 +1,44 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Interns the immutable authority list for each distinct combination of roles and named permissions,
+ * so every token carrying the same grants shares one list instead of building its own.
+ * Bounded, since permission names in legacy admin tokens make the number of combinations open-ended.
+ */
+final class AuthoritySets {
+
+    private record Key(List<String> roles, List<String> permissions) {
+    }
+
+    private final Cache<Key, List<GrantedAuthority>> cache;
+
+    AuthoritySets(long maxSize) {
+        this.cache = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Returns the shared ROLE_-prefixed roles followed by the permissions, in claim order.
+     *
+     * @param roles       Role names from the token, or null; must not be modified afterwards
+     * @param permissions Permission names from the token, or null; must not be modified afterwards
+     */
+    List<GrantedAuthority> of(List<String> roles, List<String> permissions) {
+        Key key = new Key(roles == null ? List.of() : roles, permissions == null ? List.of() : permissions);
+        return cache.get(key, AuthoritySets::build);
+    }
+
+    private static List<GrantedAuthority> build(Key key) {
+        List<GrantedAuthority> authorities = new ArrayList<>(key.roles().size() + key.permissions().size());
+        key.roles().forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
+        key.permissions().forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
+        return List.copyOf(authorities);
+    }
+}
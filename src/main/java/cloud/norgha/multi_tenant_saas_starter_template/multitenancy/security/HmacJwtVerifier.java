@@ -0,0 +1,206 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Verifies the HS256 access tokens issued by {@link JwtTokenService} without going through jjwt.
+ * <p>
+ * The signature is recomputed over the raw {@code header.payload} bytes with a per-thread {@link Mac}
+ * and compared in constant time before anything in the payload is trusted. Only the claims the
+ * authentication filters use are decoded, including the admin permission bitset. The header must name HS256 and may not carry
+ * {@code crit} or {@code zip}, which this application never issues.
+ * Failures raise the same jjwt exception types as {@link JwtTokenService#parseAndValidate}.
+ */
+final class HmacJwtVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+    private final AuthoritySets authoritySets = new AuthoritySets(1_000);
+
+    HmacJwtVerifier(SecretKey secretKey) {
+        SecretKeySpec key = new SecretKeySpec(secretKey.getEncoded(), HMAC_ALGORITHM);
+        newMac(key);
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    VerifiedToken verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new MalformedJwtException("JWT must have exactly three segments");
+        }
+        if (secondDot == token.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned JWTs are not accepted");
+        }
+
+        checkHeader(decode(token, 0, firstDot));
+
+        byte[] expected = macs.get().doFinal(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+        byte[] provided = decode(token, secondDot + 1, token.length());
+        if (!MessageDigest.isEqual(expected, provided)) {
+            throw new SignatureException("JWT signature does not match locally computed signature");
+        }
+
+        return readClaims(decode(token, firstDot + 1, secondDot));
+    }
+
+    private static void checkHeader(byte[] header) {
+        boolean[] hs256 = new boolean[1];
+        JsonClaimReader.readObject(header, (name, reader) -> {
+            switch (name) {
+                case "alg" -> {
+                    if (!"HS256".equals(reader.readString())) {
+                        throw new UnsupportedJwtException("Only HS256 tokens are accepted");
+                    }
+                    hs256[0] = true;
+                }
+                case "crit", "zip" -> throw new UnsupportedJwtException("Unsupported JWT header: " + name);
+                default -> {
+                }
+            }
+        });
+        if (!hs256[0]) {
+            throw new MalformedJwtException("JWT header is missing the alg parameter");
+        }
+    }
+
+    private VerifiedToken readClaims(byte[] payload) {
+        PayloadClaims claims = new PayloadClaims();
+        JsonClaimReader.readObject(payload, claims);
+
+        long now = System.currentTimeMillis();
+        if (claims.exp == null) {
+            throw new MalformedJwtException("JWT is missing the exp claim");
+        }
+        if (now > claims.exp * 1000) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + Instant.ofEpochSecond(claims.exp));
+        }
+        if (claims.nbf != null && now < claims.nbf * 1000) {
+            throw new PrematureJwtException(null, null, "JWT must not be accepted before " + Instant.ofEpochSecond(claims.nbf));
+        }
+
+        List<GrantedAuthority> authorities = authoritySets.of(claims.roles, claims.permissions);
+
+        return new VerifiedToken(claims.sub, parseSubjectId(claims.sub), claims.tenant, authorities, claims.pbits,
+                claims.iat == null ? null : Instant.ofEpochSecond(claims.iat), Instant.ofEpochSecond(claims.exp));
+    }
+
+    private static UUID parseSubjectId(String subject) {
+        if (subject == null || subject.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(subject);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The payload members the filters need; duplicates of these are rejected rather than overwritten.
+     */
+    private static final class PayloadClaims implements JsonClaimReader.MemberHandler {
+
+        private boolean seenSub;
+        private boolean seenTenant;
+        private boolean seenRoles;
+        private boolean seenPermissions;
+        private boolean seenPbits;
+        private String sub;
+        private String tenant;
+        private List<String> roles;
+        private List<String> permissions;
+        private PermissionBits pbits;
+        private Long iat;
+        private Long exp;
+        private Long nbf;
+
+        @Override
+        public void member(String name, JsonClaimReader reader) {
+            switch (name) {
+                case "sub" -> {
+                    seenSub = once(seenSub, name);
+                    sub = reader.readString();
+                }
+                case "tenant" -> {
+                    seenTenant = once(seenTenant, name);
+                    tenant = reader.readString();
+                }
+                case "roles" -> {
+                    seenRoles = once(seenRoles, name);
+                    roles = reader.readStringArray();
+                }
+                case "permissions" -> {
+                    seenPermissions = once(seenPermissions, name);
+                    permissions = reader.readStringArray();
+                }
+                case "pbits" -> {
+                    seenPbits = once(seenPbits, name);
+                    String encoded = reader.readString();
+                    try {
+                        pbits = encoded == null ? null : PermissionBits.decode(encoded);
+                    } catch (IllegalArgumentException ex) {
+                        throw new MalformedJwtException("Invalid pbits claim", ex);
+                    }
+                }
+                case "iat" -> {
+                    once(iat != null, name);
+                    iat = reader.readEpochSeconds();
+                }
+                case "exp" -> {
+                    once(exp != null, name);
+                    exp = reader.readEpochSeconds();
+                }
+                case "nbf" -> {
+                    once(nbf != null, name);
+                    nbf = reader.readEpochSeconds();
+                }
+                default -> {
+                }
+            }
+        }
+
+        private static boolean once(boolean seen, String name) {
+            if (seen) {
+                throw new MalformedJwtException("Duplicate JWT claim: " + name);
+            }
+            return true;
+        }
+    }
+
+    private static byte[] decode(String token, int start, int end) {
+        try {
+            return BASE64_URL.decode(token.substring(start, end));
+        } catch (IllegalArgumentException ex) {
+            throw new MalformedJwtException("JWT segment is not valid Base64URL", ex);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass reader for the JSON objects found in a JWT header or payload.
+ * <p>
+ * Reads only the top-level members its caller asks for and skips everything else without
+ * materialising it, so a token payload costs a handful of strings rather than a full claims map.
+ * Any syntax error raises {@link MalformedJwtException}.
+ */
+final class JsonClaimReader {
+
+    /**
+     * Receives each top-level member name; reads the value through the reader or skips it.
+     */
+    @FunctionalInterface
+    interface MemberHandler {
+        void member(String name, JsonClaimReader reader);
+    }
+
+    private final byte[] json;
+    private int pos;
+    private boolean consumed;
+
+    private JsonClaimReader(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * Walks the members of a top-level JSON object.
+     * Values the handler does not read are skipped.
+     */
+    static void readObject(byte[] json, MemberHandler handler) {
+        JsonClaimReader reader = new JsonClaimReader(json);
+        reader.skipWhitespace();
+        reader.expect('{');
+        reader.skipWhitespace();
+        if (reader.peek() == '}') {
+            reader.pos++;
+        } else {
+            while (true) {
+                reader.skipWhitespace();
+                String name = reader.readStringLiteral();
+                reader.skipWhitespace();
+                reader.expect(':');
+                reader.skipWhitespace();
+                reader.consumed = false;
+                handler.member(name, reader);
+                if (!reader.consumed) {
+                    reader.skipValue();
+                }
+                reader.skipWhitespace();
+                if (reader.peek() == ',') {
+                    reader.pos++;
+                    continue;
+                }
+                reader.expect('}');
+                break;
+            }
+        }
+        reader.skipWhitespace();
+        if (reader.pos != json.length) {
+            throw malformed("trailing data");
+        }
+    }
+
+    /**
+     * Reads the current value as a string, or null for JSON null.
+     */
+    String readString() {
+        consumed = true;
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        return readStringLiteral();
+    }
+
+    /**
+     * Reads the current value as an array of strings, or null for JSON null.
+     */
+    List<String> readStringArray() {
+        consumed = true;
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        expect('[');
+        List<String> values = new ArrayList<>();
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return values;
+        }
+        while (true) {
+            skipWhitespace();
+            values.add(readStringLiteral());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+            expect(']');
+            return values;
+        }
+    }
+
+    /**
+     * Reads the current value as a whole number of seconds, truncating any fraction.
+     */
+    long readEpochSeconds() {
+        consumed = true;
+        int start = pos;
+        boolean integral = true;
+        if (peek() == '-') {
+            pos++;
+        }
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b >= '0' && b <= '9') {
+                pos++;
+            } else if (b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        String number = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+        try {
+            return integral ? Long.parseLong(number) : (long) Double.parseDouble(number);
+        } catch (NumberFormatException ex) {
+            throw malformed("invalid number");
+        }
+    }
+
+    private String readStringLiteral() {
+        expect('"');
+        int start = pos;
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b == '"') {
+                String value = new String(json, start, pos - start, StandardCharsets.UTF_8);
+                pos++;
+                return value;
+            }
+            if (b == '\\') {
+                return readEscapedString(start);
+            }
+            if ((b & 0xff) < 0x20) {
+                throw malformed("control character in string");
+            }
+            pos++;
+        }
+        throw malformed("unterminated string");
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder value = new StringBuilder(new String(json, start, pos - start, StandardCharsets.UTF_8));
+        int runStart = pos;
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b == '"') {
+                value.append(new String(json, runStart, pos - runStart, StandardCharsets.UTF_8));
+                pos++;
+                return value.toString();
+            }
+            if (b != '\\') {
+                if ((b & 0xff) < 0x20) {
+                    throw malformed("control character in string");
+                }
+                pos++;
+                continue;
+            }
+            value.append(new String(json, runStart, pos - runStart, StandardCharsets.UTF_8));
+            pos++;
+            if (pos >= json.length) {
+                break;
+            }
+            byte escaped = json[pos++];
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append((char) escaped);
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > json.length) {
+                        throw malformed("truncated unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(
+                                new String(json, pos, 4, StandardCharsets.US_ASCII), 16));
+                    } catch (NumberFormatException ex) {
+                        throw malformed("invalid unicode escape");
+                    }
+                    pos += 4;
+                }
+                default -> throw malformed("invalid escape");
+            }
+            runStart = pos;
+        }
+        throw malformed("unterminated string");
+    }
+
+    private void skipValue() {
+        byte b = peek();
+        switch (b) {
+            case '"' -> readStringLiteral();
+            case '{' -> skipContainer('{', '}');
+            case '[' -> skipContainer('[', ']');
+            case 't' -> expectLiteral("true");
+            case 'f' -> expectLiteral("false");
+            case 'n' -> expectLiteral("null");
+            default -> {
+                if (b == '-' || (b >= '0' && b <= '9')) {
+                    readEpochSeconds();
+                } else {
+                    throw malformed("unexpected character");
+                }
+            }
+        }
+    }
+
+    private void skipContainer(char open, char close) {
+        expect(open);
+        skipWhitespace();
+        if (peek() == close) {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            if (open == '{') {
+                readStringLiteral();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+            }
+            skipValue();
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+            expect(close);
+            return;
+        }
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void expect(char c) {
+        if (pos >= json.length || json[pos] != c) {
+            throw malformed("expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private byte peek() {
+        if (pos >= json.length) {
+            throw malformed("unexpected end of input");
+        }
+        return json[pos];
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private static MalformedJwtException malformed(String reason) {
+        return new MalformedJwtException("Malformed JWT JSON: " + reason);
+    }
+}
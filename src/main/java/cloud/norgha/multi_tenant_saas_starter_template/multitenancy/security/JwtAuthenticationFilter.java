@@ -1,21 +1,17 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
 
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JWT Authentication filter that validates Bearer tokens and sets up the SecurityContext.
@@ -27,10 +23,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenService tokenService;
+    private final VerifiedTokenCache tokenCache;
+    private final RevocationRegistry revocationRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenService tokenService) {
-        this.tokenService = tokenService;
+    public JwtAuthenticationFilter(VerifiedTokenCache tokenCache, RevocationRegistry revocationRegistry) {
+        this.tokenCache = tokenCache;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
@@ -51,12 +49,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(BEARER_PREFIX.length());
 
         try {
-            Jws<Claims> parsed = tokenService.parseAndValidate(token);
-            Claims claims = parsed.getPayload();
+            // Repeat tokens come straight from the cache without re-verifying the signature
+            VerifiedToken verified = tokenCache.verify(token);
+
+            // Deactivated users and tenants are rejected without waiting for the token to expire
+            if (revocationRegistry.isRevoked(verified)) {
+                log.warn("Revoked token presented for {}", verified.subject());
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+                return;
+            }
 
             // Extract tenant from token and validate against request tenant
-            String tokenTenant = claims.get("tenant", String.class);
-            String requestTenant = TenantContext.getTenantId();
+            String tokenTenant = verified.tenant();
+            TenantId requestTenant = TenantContext.getTenant();
 
             // Validate tenant context is available
             if (requestTenant == null) {
@@ -65,30 +70,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Validate tenant matches (case-insensitive since TenantResolver normalizes to lowercase)
-            if (!tokenTenant.equalsIgnoreCase(requestTenant)) {
+            // Validate tenant matches (tokens are issued with the canonical lowercase tenant ID)
+            if (!requestTenant.matches(tokenTenant)) {
                 log.warn("Tenant mismatch: token={}, request={}", tokenTenant, requestTenant);
                 response.sendError(HttpServletResponse.SC_FORBIDDEN, "Tenant mismatch between token and request");
                 return;
             }
 
-            // Extract user info and roles
-            String userId = claims.getSubject();
-            @SuppressWarnings("unchecked")
-            List<String> roles = claims.get("roles", List.class);
-
-            // Create authentication token
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    userId,
-                    null,
-                    roles.stream()
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                            .toList()
-            );
+            // Typed principal sharing the token's interned authorities; nothing is copied or reparsed
+            TenantPrincipal authentication = TenantPrincipal.of(verified);
 
             // Set authentication in SecurityContext
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Authenticated user: {} with roles: {}", userId, roles);
+            log.debug("Authenticated user: {} with authorities: {}", authentication.getName(), verified.authorities());
 
         } catch (Exception ex) {
             log.warn("JWT authentication failed: {}", ex.getMessage());
@@ -15,10 +15,16 @@ public class JwtTokenService {
 
     private final long expirationSeconds;
 
+    private final JwtParser parser;
+
+    private final HmacJwtVerifier verifier;
+
 
     public JwtTokenService(SecretKey secretKey, long expirationSeconds) {
         this.secretKey = secretKey;
         this.expirationSeconds = expirationSeconds;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifier = new HmacJwtVerifier(secretKey);
     }
 
     public String generateToken(String userId, String tenantId, List<String> roles){
@@ -55,14 +61,43 @@ public class JwtTokenService {
                 .compact();
     }
 
+    /**
+     * Generates a JWT token with roles and an encoded permission bitset.
+     * Used for system admins; the header stays the same size however many permissions they hold.
+     *
+     * @param permissionBits Permissions encoded by {@link PermissionBits#encode()}
+     */
+    public String generateTokenWithPermissionBits(String userId, String tenantId, List<String> roles, String permissionBits) {
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                .subject(userId)
+                .claim("tenant", tenantId)
+                .claim("roles", roles)
+                .claim("pbits", permissionBits)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(expirationSeconds)))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
     public Jws<Claims> parseAndValidate(String token){
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+        return parser.parseSignedClaims(token);
 
     }
 
+    /**
+     * Validates an access token and extracts the subject, tenant and authorities.
+     * Uses the HS256 fast path rather than jjwt; only tokens issued by this service are accepted.
+     *
+     * @param token The compact JWT
+     * @return The verified token
+     * @throws JwtException if the token is malformed, tampered with, not HS256 or expired
+     */
+    public VerifiedToken verify(String token) {
+        return verifier.verify(token);
+    }
+
     /**
      * Returns the token expiration time in seconds.
      *
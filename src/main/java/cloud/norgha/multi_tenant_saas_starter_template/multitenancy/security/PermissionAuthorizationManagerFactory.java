@@ -0,0 +1,134 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagerFactory;
+import org.springframework.security.authorization.DefaultAuthorizationManagerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Backs the {@code hasAuthority}, {@code hasAnyAuthority} and {@code hasAllAuthorities} expressions
+ * of {@code @PreAuthorize}.
+ * <p>
+ * When the caller is a {@link SystemAdminAuthentication} and every named authority is a known
+ * system permission, the check is a bit test against the token's permission bitset instead of a scan
+ * over the authority list. Everything else falls through to Spring's default behaviour.
+ */
+public class PermissionAuthorizationManagerFactory implements AuthorizationManagerFactory<MethodInvocation> {
+
+    private final DefaultAuthorizationManagerFactory<MethodInvocation> delegate = new DefaultAuthorizationManagerFactory<>();
+    private final Supplier<PermissionRegistry> permissionRegistry;
+
+    public PermissionAuthorizationManagerFactory(Supplier<PermissionRegistry> permissionRegistry) {
+        // Resolved on first check: method security is configured before the repositories exist
+        this.permissionRegistry = SingletonSupplier.of(permissionRegistry);
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasAuthority(String authority) {
+        return bitTest(Match.ANY, new String[]{authority}, () -> delegate.hasAuthority(authority));
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasAnyAuthority(String... authorities) {
+        return bitTest(Match.ANY, authorities, () -> delegate.hasAnyAuthority(authorities));
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasAllAuthorities(String... authorities) {
+        return bitTest(Match.ALL, authorities, () -> delegate.hasAllAuthorities(authorities));
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> permitAll() {
+        return delegate.permitAll();
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> denyAll() {
+        return delegate.denyAll();
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasRole(String role) {
+        return delegate.hasRole(role);
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasAnyRole(String... roles) {
+        return delegate.hasAnyRole(roles);
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> hasAllRoles(String... roles) {
+        return delegate.hasAllRoles(roles);
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> authenticated() {
+        return delegate.authenticated();
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> fullyAuthenticated() {
+        return delegate.fullyAuthenticated();
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> rememberMe() {
+        return delegate.rememberMe();
+    }
+
+    @Override
+    public AuthorizationManager<MethodInvocation> anonymous() {
+        return delegate.anonymous();
+    }
+
+    private enum Match { ANY, ALL }
+
+    private AuthorizationManager<MethodInvocation> bitTest(
+            Match match,
+            String[] authorities,
+            Supplier<AuthorizationManager<MethodInvocation>> fallback
+    ) {
+        int[] bits = new int[authorities.length];
+        PermissionRegistry registry = permissionRegistry.get();
+        for (int i = 0; i < authorities.length; i++) {
+            bits[i] = registry.bitOf(authorities[i]);
+            if (bits[i] < 0) {
+                return fallback.get();
+            }
+        }
+
+        return (authentication, invocation) -> {
+            Authentication current = authentication.get();
+            if (!(current instanceof SystemAdminAuthentication admin) || admin.getPermissions() == null) {
+                return fallback.get().authorize(() -> current, invocation);
+            }
+            PermissionBits granted = admin.getPermissions();
+            return new AuthorizationDecision(match == Match.ANY ? containsAny(granted, bits) : containsAll(granted, bits));
+        };
+    }
+
+    private static boolean containsAny(PermissionBits granted, int[] bits) {
+        for (int bit : bits) {
+            if (granted.contains(bit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAll(PermissionBits granted, int[] bits) {
+        for (int bit : bits) {
+            if (!granted.contains(bit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
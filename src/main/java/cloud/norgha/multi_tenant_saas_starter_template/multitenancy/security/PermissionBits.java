@@ -0,0 +1,69 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable set of permission bit indexes, as carried in the "pbits" claim of admin access tokens.
+ * The wire form is the little-endian byte encoding of the bitset in unpadded Base64URL.
+ */
+public final class PermissionBits {
+
+    public static final PermissionBits EMPTY = new PermissionBits(new long[0]);
+
+    private final long[] words;
+
+    private PermissionBits(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Builds a bitset from bit indexes.
+     *
+     * @param indexes Non-negative bit indexes
+     */
+    public static PermissionBits of(Iterable<Integer> indexes) {
+        BitSet bits = new BitSet();
+        indexes.forEach(bits::set);
+        return new PermissionBits(bits.toLongArray());
+    }
+
+    /**
+     * Decodes the wire form produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the value is not valid Base64URL
+     */
+    public static PermissionBits decode(String encoded) {
+        return new PermissionBits(BitSet.valueOf(Base64.getUrlDecoder().decode(encoded)).toLongArray());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(BitSet.valueOf(words).toByteArray());
+    }
+
+    public boolean contains(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        BitSet.valueOf(words).stream().forEach(action);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PermissionBits other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return BitSet.valueOf(words).toString();
+    }
+}
@@ -0,0 +1,117 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.SystemPermission;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemPermissionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory map between system permission names and their bit indexes.
+ * <p>
+ * Admin tokens carry permissions as a {@link PermissionBits} set; this registry encodes them at login,
+ * expands them back into authorities (one shared immutable list per distinct role and permission
+ * combination) and lets {@code hasAuthority} checks become a single bit test.
+ * Kept in step with permission changes by {@link PermissionRegistryInvalidationListener}.
+ */
+@Component
+public class PermissionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionRegistry.class);
+    private static final int MAX_CACHED_GRANTS = 1024;
+
+    private record State(Map<String, Integer> bitsByName, Map<Integer, GrantedAuthority> authoritiesByBit) {
+    }
+
+    private record GrantKey(List<GrantedAuthority> roleAuthorities, PermissionBits permissions) {
+    }
+
+    private final SystemPermissionRepository permissionRepository;
+    private final Cache<GrantKey, List<GrantedAuthority>> grants = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_GRANTS)
+            .build();
+
+    private volatile State state = new State(Map.of(), Map.of());
+
+    public PermissionRegistry(SystemPermissionRepository permissionRepository) {
+        this.permissionRepository = permissionRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+    }
+
+    /**
+     * Reloads every permission from the database and drops the expanded authority lists.
+     */
+    public void reload() {
+        Map<String, Integer> bitsByName = new HashMap<>();
+        Map<Integer, GrantedAuthority> authoritiesByBit = new HashMap<>();
+        for (SystemPermission permission : permissionRepository.findAll()) {
+            bitsByName.put(permission.getName(), permission.getBitIndex());
+            authoritiesByBit.put(permission.getBitIndex(), new SimpleGrantedAuthority(permission.getName()));
+        }
+        state = new State(Map.copyOf(bitsByName), Map.copyOf(authoritiesByBit));
+        grants.invalidateAll();
+        log.debug("Loaded {} system permissions", bitsByName.size());
+    }
+
+    /**
+     * Returns the bit index of a permission, or -1 if no such permission is known.
+     */
+    public int bitOf(String permission) {
+        Integer bit = state.bitsByName().get(permission);
+        return bit == null ? -1 : bit;
+    }
+
+    /**
+     * Encodes permission names as a bitset, reloading once if a name was created since the last load.
+     *
+     * @throws IllegalStateException if a permission does not exist
+     */
+    public PermissionBits encode(Collection<String> permissions) {
+        if (!state.bitsByName().keySet().containsAll(permissions)) {
+            reload();
+        }
+        List<Integer> bits = new ArrayList<>(permissions.size());
+        for (String permission : permissions) {
+            int bit = bitOf(permission);
+            if (bit < 0) {
+                throw new IllegalStateException("Unknown system permission: " + permission);
+            }
+            bits.add(bit);
+        }
+        return PermissionBits.of(bits);
+    }
+
+    /**
+     * Returns the role authorities followed by one authority per known permission bit.
+     * The list is immutable and shared by every token with the same roles and permissions.
+     */
+    public List<GrantedAuthority> authoritiesFor(List<GrantedAuthority> roleAuthorities, PermissionBits permissions) {
+        return grants.get(new GrantKey(roleAuthorities, permissions), key -> expand(key, state));
+    }
+
+    private static List<GrantedAuthority> expand(GrantKey key, State state) {
+        List<GrantedAuthority> authorities = new ArrayList<>(key.roleAuthorities());
+        key.permissions().forEach(bit -> {
+            GrantedAuthority authority = state.authoritiesByBit().get(bit);
+            if (authority != null) {
+                authorities.add(authority);
+            }
+        });
+        return List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,34 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the PermissionRegistry when a permission is created or deleted on any node.
+ */
+@Component
+public class PermissionRegistryInvalidationListener {
+
+    private static final String PERMISSION_KEY_PREFIX = "permission:";
+
+    private final InvalidationBus invalidationBus;
+    private final PermissionRegistry permissionRegistry;
+
+    public PermissionRegistryInvalidationListener(InvalidationBus invalidationBus, PermissionRegistry permissionRegistry) {
+        this.invalidationBus = invalidationBus;
+        this.permissionRegistry = permissionRegistry;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.RBAC, this::onRbacChanged);
+    }
+
+    private void onRbacChanged(InvalidationEvent event) {
+        if (event.isFullResync() || event.key().startsWith(PERMISSION_KEY_PREFIX)) {
+            permissionRegistry.reload();
+        }
+    }
+}
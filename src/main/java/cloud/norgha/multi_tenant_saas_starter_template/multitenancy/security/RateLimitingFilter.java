@@ -1,37 +1,91 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
 
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.ClusterRateLimitSync;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.LoginAttemptThrottle;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.TokenBucketLimiter;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Rate limiting filter for authentication endpoints.
  * Limits requests to prevent brute force attacks.
- * Includes scheduled cleanup to prevent memory leaks.
+ * <p>
+ * Applies token buckets keyed by client IP, by tenant and, for logins, by the target email
+ * (within its tenant), all in one pass; a request is rejected as soon as one bucket is empty.
+ * Each response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}
+ * for the most constrained bucket, and rejections add {@code Retry-After}.
+ * A rule with capacity 0 is disabled.
+ * <p>
+ * Each rule keeps buckets for at most {@code max-keys} keys (see {@link TokenBucketLimiter} for the
+ * error bounds), so memory stays bounded however many IPs or emails a client rotates through,
+ * and idle buckets expire on their own. Buckets are shared between nodes through
+ * {@link ClusterRateLimitSync}, so the limits hold for the cluster rather than per node.
+ * <p>
+ * Logins to an account locked by the {@link LoginAttemptThrottle} are rejected here, before
+ * any bucket is charged or a hashing thread is taken. Login bodies over 8 KiB, declared or
+ * chunked, are rejected with 413, so the email rule and the lockout cannot be skipped by
+ * padding or streaming the body.
  */
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimitingFilter.class);
-    
-    // Rate limit: 10 requests per minute per IP
-    private static final int MAX_REQUESTS_PER_MINUTE = 10;
-    private static final long WINDOW_SIZE_MS = 60_000; // 1 minute
 
-    // Store request counts per IP
-    private final Map<String, RateLimitEntry> requestCounts = new ConcurrentHashMap<>();
+    // Login bodies are tiny; anything larger is rejected rather than let past the email rule
+    private static final int MAX_LOGIN_BODY_BYTES = 8 * 1024;
+
+    private enum KeyType { IP, TENANT, EMAIL }
+
+    private record Rule(KeyType keyType, TokenBucketLimiter limiter) {
+    }
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final Rule[] rules;
+
+    public RateLimitingFilter(
+            ClusterRateLimitSync clusterSync,
+            LoginAttemptThrottle loginAttemptThrottle,
+            @Value("${app.security.rate-limit.ip.capacity:10}") long ipCapacity,
+            @Value("${app.security.rate-limit.ip.period-seconds:60}") long ipPeriodSeconds,
+            @Value("${app.security.rate-limit.tenant.capacity:300}") long tenantCapacity,
+            @Value("${app.security.rate-limit.tenant.period-seconds:60}") long tenantPeriodSeconds,
+            @Value("${app.security.rate-limit.email.capacity:5}") long emailCapacity,
+            @Value("${app.security.rate-limit.email.period-seconds:300}") long emailPeriodSeconds,
+            @Value("${app.security.rate-limit.max-keys:50000}") long maxKeys
+    ) {
+        this.loginAttemptThrottle = loginAttemptThrottle;
+
+        List<Rule> configured = new ArrayList<>();
+        addRule(configured, KeyType.IP, ipCapacity, ipPeriodSeconds, maxKeys);
+        addRule(configured, KeyType.TENANT, tenantCapacity, tenantPeriodSeconds, maxKeys);
+        addRule(configured, KeyType.EMAIL, emailCapacity, emailPeriodSeconds, maxKeys);
+        this.rules = configured.toArray(Rule[]::new);
+
+        for (Rule rule : rules) {
+            clusterSync.register(rule.keyType().name(), rule.limiter());
+        }
+    }
+
+    private static void addRule(List<Rule> rules, KeyType keyType, long capacity, long periodSeconds, long maxKeys) {
+        if (capacity > 0) {
+            rules.add(new Rule(keyType, new TokenBucketLimiter(capacity, Duration.ofSeconds(periodSeconds), maxKeys)));
+        }
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -47,72 +101,116 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String clientIp = getClientIp(request);
-        
-        if (isRateLimited(clientIp)) {
-            log.warn("Rate limit exceeded for IP: {}", clientIp);
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType("application/json");
-            response.getWriter().write(
-                "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded. Try again later.\"}"
-            );
-            return;
+        HttpServletRequest downstream = request;
+        String emailKey = null;
+        if (isLogin(request)) {
+            CachedBodyRequest cached = CachedBodyRequest.read(request, MAX_LOGIN_BODY_BYTES);
+            if (cached == null) {
+                log.warn("Login rejected: body larger than {} bytes", MAX_LOGIN_BODY_BYTES);
+                writeError(response, HttpStatus.CONTENT_TOO_LARGE, "Login request body is too large.");
+                return;
+            }
+            downstream = cached;
+            emailKey = emailKey(cached);
         }
 
-        filterChain.doFilter(request, response);
-    }
+        if (emailKey != null) {
+            long lockedForSeconds = loginAttemptThrottle.lockedForSeconds(emailKey);
+            if (lockedForSeconds > 0) {
+                log.warn("Login rejected for locked account");
+                reject(response, lockedForSeconds, "Too many failed login attempts. Try again later.");
+                return;
+            }
+        }
+
+        TokenBucketLimiter.Decision tightest = null;
 
-    private boolean isRateLimited(String clientIp) {
-        long now = System.currentTimeMillis();
-        
-        RateLimitEntry entry = requestCounts.compute(clientIp, (ip, existing) -> {
-            if (existing == null || now - existing.windowStart > WINDOW_SIZE_MS) {
-                // Start new window
-                return new RateLimitEntry(now, new AtomicInteger(1));
-            } else {
-                // Increment counter in current window
-                existing.count.incrementAndGet();
-                return existing;
+        for (Rule rule : rules) {
+            String key = switch (rule.keyType()) {
+                case IP -> getClientIp(request);
+                case TENANT -> tenantKey();
+                case EMAIL -> emailKey;
+            };
+            if (key == null) {
+                continue;
             }
-        });
 
-        return entry.count.get() > MAX_REQUESTS_PER_MINUTE;
-    }
+            TokenBucketLimiter.Decision decision = rule.limiter().tryAcquire(key);
+            if (!decision.allowed()) {
+                log.warn("Rate limit exceeded for {}: {}", rule.keyType(),
+                        rule.keyType() == KeyType.EMAIL ? "(login email)" : key);
+                writeHeaders(response, decision);
+                reject(response, decision.resetSeconds(), "Rate limit exceeded. Try again later.");
+                return;
+            }
+            if (tightest == null || decision.remaining() < tightest.remaining()) {
+                tightest = decision;
+            }
+        }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+        if (tightest != null) {
+            writeHeaders(response, tightest);
         }
-        return request.getRemoteAddr();
+        filterChain.doFilter(downstream, response);
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType("application/json");
+        response.getWriter().write(
+            "{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase()
+                    + "\",\"message\":\"" + message + "\"}"
+        );
+    }
+
+    private static void writeHeaders(HttpServletResponse response, TokenBucketLimiter.Decision decision) {
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+    }
+
+    private static boolean isLogin(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && request.getRequestURI().endsWith("/login");
+    }
+
+    private static String tenantKey() {
+        TenantId tenant = TenantContext.getTenant();
+        return tenant == null ? null : tenant.value();
     }
 
     /**
-     * Scheduled cleanup of stale rate limit entries.
-     * Runs every 5 minutes to prevent memory leaks from old entries.
+     * The login email scoped to the tenant (or the admin realm), or null if the body has none.
      */
-    @Scheduled(fixedRate = 300_000) // 5 minutes
-    public void cleanupStaleEntries() {
-        long now = System.currentTimeMillis();
-        int beforeSize = requestCounts.size();
-        
-        requestCounts.entrySet().removeIf(entry -> 
-            now - entry.getValue().windowStart > WINDOW_SIZE_MS * 2);
-        
-        int removed = beforeSize - requestCounts.size();
-        if (removed > 0) {
-            log.debug("Cleaned up {} stale rate limit entries", removed);
+    private static String emailKey(CachedBodyRequest request) {
+        String[] email = new String[1];
+        try {
+            JsonClaimReader.readObject(request.body(), (name, reader) -> {
+                if ("email".equals(name)) {
+                    email[0] = reader.readString();
+                }
+            });
+        } catch (RuntimeException ex) {
+            // Malformed bodies are left for the controller to reject
+            return null;
+        }
+        if (email[0] == null || email[0].isBlank()) {
+            return null;
         }
+        return LoginAttemptThrottle.key(tenantKey(), email[0]);
     }
 
-    private static class RateLimitEntry {
-        final long windowStart;
-        final AtomicInteger count;
-
-        RateLimitEntry(long windowStart, AtomicInteger count) {
-            this.windowStart = windowStart;
-            this.count = count;
+    private String getClientIp(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
         }
+        return request.getRemoteAddr();
     }
 }
-
@@ -0,0 +1,248 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user and per-tenant "not before" epochs for access tokens, checked in memory on every request.
+ * <p>
+ * Revoking moves the subject's epoch to now in Postgres ({@code revocation_epochs}); any token issued
+ * at or before that second is then rejected, without a database read per request. Each node holds
+ * the epochs as epoch seconds in two maps and keeps them current three ways: the revoking node
+ * applies its change on commit, other nodes fetch the changed row when the invalidation bus reports it,
+ * and a poll reads rows changed since the previous poll in case an event was lost.
+ * Epochs older than the access token lifetime can't match a live token, so they are pruned.
+ */
+@Component
+public class RevocationRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationRegistry.class);
+
+    /**
+     * What an epoch applies to.
+     */
+    public enum Scope {
+        /** A user or system admin; subject is their ID. */
+        USER,
+        /** Every user of a tenant; subject is the canonical (lowercase) tenant ID, as issued in tokens. */
+        TENANT
+    }
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO revocation_epochs (scope, subject, not_before)
+            VALUES (?, ?, clock_timestamp())
+            ON CONFLICT (scope, subject) DO UPDATE SET not_before = EXCLUDED.not_before
+            RETURNING not_before
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationBus invalidationBus;
+    private final long tokenLifetimeSeconds;
+    private final long pollIntervalSeconds;
+
+    /** The epoch maps, swapped as a pair by {@link #reload()}. */
+    private record Epochs(Map<String, Long> users, Map<String, Long> tenants) {
+
+        Epochs() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        Map<String, Long> of(Scope scope) {
+            return scope == Scope.USER ? users : tenants;
+        }
+    }
+
+    private volatile Epochs epochs = new Epochs();
+    private volatile Instant lastPoll = Instant.EPOCH;
+    private ScheduledExecutorService poller;
+
+    public RevocationRegistry(
+            JdbcTemplate jdbcTemplate,
+            InvalidationBus invalidationBus,
+            @Value("${security.jwt.expiration}") long tokenLifetimeSeconds,
+            @Value("${app.security.revocation.poll-interval-seconds:30}") long pollIntervalSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidationBus = invalidationBus;
+        this.tokenLifetimeSeconds = tokenLifetimeSeconds;
+        this.pollIntervalSeconds = pollIntervalSeconds;
+    }
+
+    /**
+     * Loads every live epoch and schedules the incremental poll.
+     */
+    @PostConstruct
+    public void start() {
+        reload();
+
+        if (pollIntervalSeconds > 0) {
+            poller = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("revocation-registry-poll").daemon().factory());
+            poller.scheduleWithFixedDelay(this::pollQuietly,
+                    pollIntervalSeconds, pollIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks whether a verified token was issued at or before its user's or tenant's epoch.
+     * Tokens without an {@code iat} count as issued at the start of time.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        Epochs current = epochs;
+        if (current.users().isEmpty() && current.tenants().isEmpty()) {
+            return false;
+        }
+        long issuedAt = token.issuedAt() == null ? Long.MIN_VALUE : token.issuedAt().getEpochSecond();
+        return revokedAfter(current.users().get(token.subject()), issuedAt)
+                || (token.tenant() != null && revokedAfter(current.tenants().get(token.tenant()), issuedAt));
+    }
+
+    /**
+     * Rejects every access token issued to a user or system admin so far.
+     *
+     * @param subject User or admin ID
+     */
+    public void revokeUser(String subject) {
+        revoke(Scope.USER, subject);
+    }
+
+    /**
+     * Rejects every access token issued for a tenant so far.
+     *
+     * @param tenantId Tenant ID
+     */
+    public void revokeTenant(String tenantId) {
+        revoke(Scope.TENANT, tenantId.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Reads one epoch from the database, e.g. after another node reported changing it.
+     */
+    public void refresh(Scope scope, String subject) {
+        jdbcTemplate.query(
+                "SELECT not_before FROM revocation_epochs WHERE scope = ? AND subject = ?",
+                rs -> {
+                    apply(scope, subject, rs.getTimestamp(1).toInstant().getEpochSecond());
+                },
+                scope.name(), subject);
+    }
+
+    /**
+     * Replaces every epoch with those still in the database, pruning expired rows first.
+     * The epochs are read into new maps and swapped in only once the read succeeds, so the
+     * current ones keep being enforced while it runs and if it fails.
+     */
+    public synchronized void reload() {
+        Instant now = Instant.now();
+        Instant horizon = now.minusSeconds(tokenLifetimeSeconds);
+        jdbcTemplate.update("DELETE FROM revocation_epochs WHERE not_before < ?", Timestamp.from(horizon));
+
+        Epochs loaded = new Epochs();
+        readSince(horizon, loaded);
+        Epochs previous = epochs;
+        epochs = loaded;
+        lastPoll = now;
+
+        // Keep epochs applied to the old maps while the read ran, e.g. a commit it didn't see yet
+        long horizonSeconds = horizon.getEpochSecond();
+        for (Scope scope : Scope.values()) {
+            previous.of(scope).forEach((subject, notBefore) -> {
+                if (notBefore >= horizonSeconds) {
+                    apply(scope, subject, notBefore);
+                }
+            });
+        }
+        log.debug("Loaded {} user and {} tenant revocation epochs", loaded.users().size(), loaded.tenants().size());
+    }
+
+    /**
+     * Reads the epochs changed since the previous poll and drops the ones that have aged out.
+     * Looks back one extra interval so a revocation committed just after the previous poll's
+     * snapshot is not missed.
+     */
+    public synchronized void poll() {
+        Instant now = Instant.now();
+        Epochs current = epochs;
+        readSince(lastPoll.minusSeconds(Math.max(pollIntervalSeconds, 1)), current);
+        lastPoll = now;
+
+        long horizon = now.minusSeconds(tokenLifetimeSeconds).getEpochSecond();
+        current.users().values().removeIf(notBefore -> notBefore < horizon);
+        current.tenants().values().removeIf(notBefore -> notBefore < horizon);
+    }
+
+    public int size() {
+        Epochs current = epochs;
+        return current.users().size() + current.tenants().size();
+    }
+
+    private void revoke(Scope scope, String subject) {
+        Timestamp notBefore = jdbcTemplate.queryForObject(UPSERT_SQL, Timestamp.class, scope.name(), subject);
+        long epoch = notBefore.toInstant().getEpochSecond();
+        invalidationBus.publish(InvalidationEvent.Type.REVOCATION, scope.name() + ":" + subject);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(scope, subject, epoch);
+            return;
+        }
+
+        // Applied on commit, so a rolled back deactivation doesn't lock the subject out on this node
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(scope, subject, epoch);
+            }
+        });
+    }
+
+    private void readSince(Instant since, Epochs target) {
+        jdbcTemplate.query(
+                "SELECT scope, subject, not_before FROM revocation_epochs WHERE not_before >= ?",
+                rs -> {
+                    target.of(Scope.valueOf(rs.getString(1)))
+                            .merge(rs.getString(2), rs.getTimestamp(3).toInstant().getEpochSecond(), Math::max);
+                },
+                Timestamp.from(since));
+    }
+
+    private void apply(Scope scope, String subject, long notBefore) {
+        epochs.of(scope).merge(subject, notBefore, Math::max);
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to poll revocation epochs: {}", ex.getMessage());
+        }
+    }
+
+    private static boolean revokedAfter(Long notBefore, long issuedAt) {
+        return notBefore != null && issuedAt <= notBefore;
+    }
+}
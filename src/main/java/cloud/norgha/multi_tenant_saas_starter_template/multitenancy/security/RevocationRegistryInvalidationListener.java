@@ -0,0 +1,46 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pulls revocation epochs changed on other nodes into the RevocationRegistry.
+ * A revocation event reads that one row; a full resync reloads every epoch.
+ */
+@Component
+public class RevocationRegistryInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationRegistryInvalidationListener.class);
+
+    private final InvalidationBus invalidationBus;
+    private final RevocationRegistry revocationRegistry;
+
+    public RevocationRegistryInvalidationListener(InvalidationBus invalidationBus, RevocationRegistry revocationRegistry) {
+        this.invalidationBus = invalidationBus;
+        this.revocationRegistry = revocationRegistry;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.REVOCATION, this::onRevocation);
+    }
+
+    private void onRevocation(InvalidationEvent event) {
+        if (event.isFullResync()) {
+            revocationRegistry.reload();
+            return;
+        }
+
+        int separator = event.key().indexOf(':');
+        try {
+            RevocationRegistry.Scope scope = RevocationRegistry.Scope.valueOf(event.key().substring(0, separator));
+            revocationRegistry.refresh(scope, event.key().substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            log.warn("Ignoring malformed revocation event key: {}", event.key());
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
 
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.bulkhead.TenantBulkheadFilter;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.persistence.HibernateTenantFilterConfigurer;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.quota.TenantQuotaFilter;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantFilter;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
+import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.security.authorization.AuthorizationManagerFactory;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -93,12 +99,26 @@ public class SecurityConfig {
         return new JwtTokenService(key, jwtExpiration);
     }
 
+    /**
+     * Creates the cache of already-verified access tokens shared by both JWT filters.
+     */
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(
+            JwtTokenService jwtTokenService,
+            @Value("${security.jwt.verified-cache.max-size:10000}") long maxSize
+    ) {
+        return new VerifiedTokenCache(jwtTokenService, maxSize);
+    }
+
     /**
      * Creates the JwtAuthenticationFilter bean for tenant-scoped requests.
      */
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenService jwtTokenService) {
-        return new JwtAuthenticationFilter(jwtTokenService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            RevocationRegistry revocationRegistry
+    ) {
+        return new JwtAuthenticationFilter(verifiedTokenCache, revocationRegistry);
     }
 
     /**
@@ -106,8 +126,23 @@ public class SecurityConfig {
      * This filter does NOT validate tenant context.
      */
     @Bean
-    public AdminJwtAuthenticationFilter adminJwtAuthenticationFilter(JwtTokenService jwtTokenService) {
-        return new AdminJwtAuthenticationFilter(jwtTokenService);
+    public AdminJwtAuthenticationFilter adminJwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            RevocationRegistry revocationRegistry,
+            PermissionRegistry permissionRegistry
+    ) {
+        return new AdminJwtAuthenticationFilter(verifiedTokenCache, revocationRegistry, permissionRegistry);
+    }
+
+    /**
+     * Turns @PreAuthorize("hasAuthority('...')") checks for system permissions into bit tests.
+     * Static so method security can be configured without instantiating this class early.
+     */
+    @Bean
+    public static AuthorizationManagerFactory<MethodInvocation> methodAuthorizationManagerFactory(
+            ObjectProvider<PermissionRegistry> permissionRegistry
+    ) {
+        return new PermissionAuthorizationManagerFactory(permissionRegistry::getObject);
     }
 
     /**
@@ -118,8 +153,10 @@ public class SecurityConfig {
             HttpSecurity http,
             RateLimitingFilter rateLimitingFilter,
             TenantFilter tenantFilter,
+            TenantBulkheadFilter tenantBulkheadFilter,
             JwtAuthenticationFilter jwtAuthenticationFilter,
             AdminJwtAuthenticationFilter adminJwtAuthenticationFilter,
+            TenantQuotaFilter tenantQuotaFilter,
             org.springframework.web.cors.CorsConfigurationSource corsConfigurationSource
     ) throws Exception {
         http
@@ -135,6 +172,8 @@ public class SecurityConfig {
 
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Async results (password hashing) complete requests that were already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/admin/auth/**").permitAll()
@@ -148,25 +187,36 @@ public class SecurityConfig {
                         // All other requests require authentication
                         .anyRequest().authenticated())
 
-                // RateLimitingFilter for auth endpoints (first filter)
+                // TenantFilter for tenant-scoped requests (skips /admin/**, first filter).
+                // Runs before rate limiting so path-prefix resolution has stripped the tenant segment.
                 .addFilterBefore(
-                        rateLimitingFilter,
+                        tenantFilter,
                         UsernamePasswordAuthenticationFilter.class)
 
-                // TenantFilter for tenant-scoped requests (skips /admin/**)
+                // RateLimitingFilter for auth endpoints
                 .addFilterAfter(
-                        tenantFilter,
+                        rateLimitingFilter,
+                        TenantFilter.class)
+
+                // TenantBulkheadFilter caps in-flight requests per tenant
+                .addFilterAfter(
+                        tenantBulkheadFilter,
                         RateLimitingFilter.class)
 
                 // AdminJwtAuthenticationFilter for /admin/** requests
                 .addFilterAfter(
                         adminJwtAuthenticationFilter,
-                        TenantFilter.class)
+                        TenantBulkheadFilter.class)
 
                 // JwtAuthenticationFilter for tenant-scoped requests
                 .addFilterAfter(
                         jwtAuthenticationFilter,
-                        AdminJwtAuthenticationFilter.class);
+                        AdminJwtAuthenticationFilter.class)
+
+                // TenantQuotaFilter counts authenticated tenant requests against plan quotas
+                .addFilterAfter(
+                        tenantQuotaFilter,
+                        JwtAuthenticationFilter.class);
 
         return http.build();
     }
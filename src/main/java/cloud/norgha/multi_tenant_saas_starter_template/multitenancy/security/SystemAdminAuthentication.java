@@ -0,0 +1,69 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable authentication for a system admin, built from a verified admin token.
+ * Shares the registry's authority list instead of copying it and keeps the permission bitset
+ * so {@link PermissionAuthorizationManagerFactory} can answer {@code hasAuthority} with a bit test.
+ */
+public final class SystemAdminAuthentication implements Authentication {
+
+    private final String adminId;
+    private final List<GrantedAuthority> authorities;
+    private final PermissionBits permissions;
+
+    public SystemAdminAuthentication(String adminId, List<GrantedAuthority> authorities, PermissionBits permissions) {
+        this.adminId = adminId;
+        this.authorities = authorities;
+        this.permissions = permissions;
+    }
+
+    public PermissionBits getPermissions() {
+        return permissions;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return adminId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        throw new IllegalArgumentException("SystemAdminAuthentication is immutable");
+    }
+
+    @Override
+    public String getName() {
+        return adminId;
+    }
+
+    @Override
+    public String toString() {
+        return "SystemAdminAuthentication[" + adminId + ", " + authorities + "]";
+    }
+}
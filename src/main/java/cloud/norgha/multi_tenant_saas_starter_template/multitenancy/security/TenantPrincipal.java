@@ -0,0 +1,92 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable authentication for a tenant user, built from a verified access token.
+ * Carries the user ID already parsed and the tenant the token was issued for, and shares the
+ * token's interned authority list instead of copying it. Services read the user with
+ * {@link #getUserId()} rather than parsing {@link #getName()}.
+ */
+public final class TenantPrincipal implements Authentication {
+
+    private final UUID userId;
+    private final String userName;
+    private final String tenantId;
+    private final List<GrantedAuthority> authorities;
+
+    private TenantPrincipal(UUID userId, String userName, String tenantId, List<GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.userName = userName;
+        this.tenantId = tenantId;
+        this.authorities = authorities;
+    }
+
+    /**
+     * Creates the principal for a verified tenant token.
+     *
+     * @throws IllegalArgumentException if the token's subject is not a user ID
+     */
+    public static TenantPrincipal of(VerifiedToken verified) {
+        if (verified.subjectId() == null) {
+            throw new IllegalArgumentException("Token subject is not a user ID");
+        }
+        return new TenantPrincipal(verified.subjectId(), verified.subject(), verified.tenant(), verified.authorities());
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * The canonical ID of the tenant the token was issued for.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userName;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        throw new IllegalArgumentException("TenantPrincipal is immutable");
+    }
+
+    @Override
+    public String getName() {
+        return userName;
+    }
+
+    @Override
+    public String toString() {
+        return "TenantPrincipal[" + userName + ", " + tenantId + ", " + authorities + "]";
+    }
+}
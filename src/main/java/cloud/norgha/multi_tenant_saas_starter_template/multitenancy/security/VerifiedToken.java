@@ -0,0 +1,38 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The parts of a validated access token the authentication filters need, built once per token.
+ *
+ * @param subject     User or system admin ID (the {@code sub} claim)
+ * @param subjectId   The subject parsed as a UUID, or null if it is not one
+ * @param tenant      Tenant the token was issued for, or null for system admin tokens
+ * @param authorities ROLE_-prefixed roles followed by any permissions listed by name, immutable and
+ *                    shared by every token with the same grants
+ * @param permissions Permission bitset from the {@code pbits} claim of admin tokens, or null
+ * @param issuedAt    Issue time (the {@code iat} claim), or null if the token has none
+ * @param expiresAt   Token expiry (the {@code exp} claim)
+ */
+public record VerifiedToken(
+        String subject,
+        UUID subjectId,
+        String tenant,
+        List<GrantedAuthority> authorities,
+        PermissionBits permissions,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public VerifiedToken {
+        authorities = List.copyOf(authorities);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,89 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Remembers access tokens that already passed signature and expiry checks,
+ * so a client repeating the same bearer token skips decoding, HMAC and claim parsing.
+ * <p>
+ * Entries are keyed by the token's signature segment (itself an HMAC digest of header and payload)
+ * and only hit when the whole token matches. Each entry expires no later than the token's {@code exp};
+ * a hit is rechecked against the clock so an entry never outlives its token.
+ * Failed verifications are never cached.
+ */
+public class VerifiedTokenCache {
+
+    private record Entry(String token, VerifiedToken verified) {
+    }
+
+    private final JwtTokenService tokenService;
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(JwtTokenService tokenService, long maxSize) {
+        this.tokenService = tokenService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String signature, Entry entry) -> remainingLifetime(entry)))
+                .build();
+    }
+
+    /**
+     * Returns the verified form of a token, validating it only if it is not cached.
+     *
+     * @param token The compact JWT
+     * @return The verified token
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+
+        Entry entry = cache.getIfPresent(signature);
+        if (entry != null && entry.token().equals(token) && !entry.verified().isExpired(Instant.now())) {
+            return entry.verified();
+        }
+
+        VerifiedToken verified = tokenService.verify(token);
+        if (!signature.isEmpty()) {
+            cache.put(signature, new Entry(token, verified));
+        }
+        return verified;
+    }
+
+    /**
+     * Drops every cached token issued to a user or system admin.
+     *
+     * @param subject The user or admin ID
+     */
+    public void invalidateSubject(String subject) {
+        cache.asMap().values().removeIf(entry -> Objects.equals(entry.verified().subject(), subject));
+    }
+
+    /**
+     * Drops every cached token issued for a tenant.
+     *
+     * @param tenant The canonical tenant ID
+     */
+    public void invalidateTenant(String tenant) {
+        cache.asMap().values().removeIf(entry -> tenant.equalsIgnoreCase(entry.verified().tenant()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Duration remainingLifetime(Entry entry) {
+        Duration remaining = Duration.between(Instant.now(), entry.verified().expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
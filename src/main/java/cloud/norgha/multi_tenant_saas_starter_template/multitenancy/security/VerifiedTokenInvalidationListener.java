@@ -0,0 +1,44 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached verified tokens when their user, admin or tenant changes,
+ * so a deactivation takes effect on the next request rather than when the cached entry expires.
+ */
+@Component
+public class VerifiedTokenInvalidationListener {
+
+    private final InvalidationBus invalidationBus;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public VerifiedTokenInvalidationListener(InvalidationBus invalidationBus, VerifiedTokenCache verifiedTokenCache) {
+        this.invalidationBus = invalidationBus;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.USER_STATUS, this::onUserChanged);
+        invalidationBus.subscribe(InvalidationEvent.Type.TENANT, this::onTenantChanged);
+    }
+
+    private void onUserChanged(InvalidationEvent event) {
+        if (event.isFullResync()) {
+            verifiedTokenCache.invalidateAll();
+        } else {
+            verifiedTokenCache.invalidateSubject(event.key());
+        }
+    }
+
+    private void onTenantChanged(InvalidationEvent event) {
+        if (event.isFullResync()) {
+            verifiedTokenCache.invalidateAll();
+        } else {
+            verifiedTokenCache.invalidateTenant(event.key());
+        }
+    }
+}
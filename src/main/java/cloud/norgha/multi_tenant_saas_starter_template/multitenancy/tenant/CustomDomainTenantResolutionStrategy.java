@@ -0,0 +1,31 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the tenant from a custom domain registered on the tenant.
+ * Uses the registry's in-memory domain index, so resolution costs one pass over the host name.
+ */
+@Component
+public class CustomDomainTenantResolutionStrategy implements TenantResolutionStrategy {
+
+    public static final String NAME = "custom-domain";
+
+    private final TenantRegistry tenantRegistry;
+
+    public CustomDomainTenantResolutionStrategy(TenantRegistry tenantRegistry) {
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        TenantSnapshot tenant = tenantRegistry.findByDomain(request.getServerName());
+        return tenant != null ? tenant.id().value() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the tenant from the X-Tenant-ID header.
+ */
+@Component
+public class HeaderTenantResolutionStrategy implements TenantResolutionStrategy {
+
+    public static final String NAME = "header";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String tenantId = request.getHeader(TenantResolver.TENANT_HEADER);
+        return tenantId == null || tenantId.isBlank() ? null : tenantId;
+    }
+}
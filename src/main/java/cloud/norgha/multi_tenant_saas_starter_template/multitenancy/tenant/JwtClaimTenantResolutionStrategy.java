@@ -0,0 +1,44 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the tenant from the "tenant" claim of a verified bearer token.
+ * Tokens that fail verification are ignored here and rejected later by JwtAuthenticationFilter.
+ */
+@Component
+public class JwtClaimTenantResolutionStrategy implements TenantResolutionStrategy {
+
+    public static final String NAME = "jwt-claim";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtClaimTenantResolutionStrategy(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+
+        try {
+            // Shares the filters' cache, so the token is verified once per request at most
+            return verifiedTokenCache.verify(authHeader.substring(BEARER_PREFIX.length())).tenant();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
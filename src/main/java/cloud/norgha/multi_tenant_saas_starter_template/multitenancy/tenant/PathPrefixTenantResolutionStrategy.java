@@ -0,0 +1,100 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the tenant from a path prefix, e.g. "acme" from "/t/acme/api/v1/users".
+ * The prefix and tenant segment are stripped before the request reaches security rules and controllers,
+ * so "/t/acme/api/v1/users" is handled exactly like "/api/v1/users".
+ */
+@Component
+public class PathPrefixTenantResolutionStrategy implements TenantResolutionStrategy {
+
+    public static final String NAME = "path-prefix";
+
+    private final String prefix;
+
+    public PathPrefixTenantResolutionStrategy(
+            @Value("${app.tenancy.resolution.path-prefix:/t/}") String prefix
+    ) {
+        this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        if (!path.startsWith(prefix)) {
+            return null;
+        }
+
+        int end = path.indexOf('/', prefix.length());
+        String segment = path.substring(prefix.length(), end < 0 ? path.length() : end);
+        return segment.isEmpty() ? null : segment;
+    }
+
+    @Override
+    public HttpServletRequest adapt(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        int end = path.indexOf('/', prefix.length());
+        String remaining = end < 0 ? "/" : path.substring(end);
+        return new PrefixStrippedRequest(request, remaining);
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+    }
+
+    /**
+     * Presents the request as if it had been sent without the tenant prefix.
+     * Assumes the DispatcherServlet is mapped to "/", as it is by default.
+     */
+    private static final class PrefixStrippedRequest extends HttpServletRequestWrapper {
+
+        private final String requestUri;
+        private final String servletPath;
+
+        PrefixStrippedRequest(HttpServletRequest request, String remaining) {
+            super(request);
+            this.requestUri = request.getContextPath() + remaining;
+            this.servletPath = remaining;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return requestUri;
+        }
+
+        @Override
+        public String getServletPath() {
+            return servletPath;
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            StringBuffer url = new StringBuffer();
+            url.append(getScheme()).append("://").append(getServerName());
+            int port = getServerPort();
+            if (port > 0 && !(("http".equals(getScheme()) && port == 80) || ("https".equals(getScheme()) && port == 443))) {
+                url.append(':').append(port);
+            }
+            return url.append(requestUri);
+        }
+    }
+}
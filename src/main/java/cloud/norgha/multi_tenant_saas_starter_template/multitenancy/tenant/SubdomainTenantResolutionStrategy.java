@@ -0,0 +1,46 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the tenant from the first label of a host under the platform base domain,
+ * e.g. "acme" from "acme.app.example.com" with base domain "app.example.com".
+ * Does nothing while app.tenancy.resolution.base-domain is empty.
+ */
+@Component
+public class SubdomainTenantResolutionStrategy implements TenantResolutionStrategy {
+
+    public static final String NAME = "subdomain";
+
+    private final String domainSuffix;
+
+    public SubdomainTenantResolutionStrategy(
+            @Value("${app.tenancy.resolution.base-domain:}") String baseDomain
+    ) {
+        this.domainSuffix = baseDomain.isBlank() ? null : "." + baseDomain.strip().toLowerCase();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String host = request.getServerName();
+        if (domainSuffix == null || host == null || host.length() <= domainSuffix.length()) {
+            return null;
+        }
+
+        int labelEnd = host.length() - domainSuffix.length();
+        if (!host.regionMatches(true, labelEnd, domainSuffix, 0, domainSuffix.length())) {
+            return null;
+        }
+
+        // Only a single label directly under the base domain names a tenant
+        String label = host.substring(0, labelEnd);
+        return label.indexOf('.') < 0 ? label : null;
+    }
+}
@@ -1,22 +1,90 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
 
 /**
- * Thread-local storage for the current tenant context.
- * Uses InheritableThreadLocal to propagate tenant context to child threads (e.g., @Async methods).
+ * Storage for the current tenant context.
+ * <p>
+ * Two binding modes are supported behind the same static API:
+ * <ul>
+ *   <li>An {@link InheritableThreadLocal} set via {@link #setTenant(TenantId)}, which propagates
+ *       to child threads (e.g., @Async methods) and must be cleared after use.</li>
+ *   <li>A {@link ScopedValue} bound via {@link #runWithTenant(TenantId, TenantScopedAction)}, which is
+ *       visible only for the duration of the action, needs no clearing and is inherited by
+ *       {@code StructuredTaskScope} forks without per-thread copies. Preferred with virtual threads.</li>
+ * </ul>
+ * A scoped binding takes precedence over the thread-local value while it is in effect.
  */
 public final class TenantContext {
 
-    private static final InheritableThreadLocal<String> CURRENT_TENANT = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<TenantId> CURRENT_TENANT = new InheritableThreadLocal<>();
+    private static final ScopedValue<TenantId> SCOPED_TENANT = ScopedValue.newInstance();
 
     private TenantContext() {}
 
+    /**
+     * An action executed with a scoped tenant binding.
+     *
+     * @param <X> The checked exception type the action may throw
+     */
+    @FunctionalInterface
+    public interface TenantScopedAction<X extends Exception> {
+        void run() throws X;
+    }
+
+    /**
+     * Runs an action with the tenant bound as a scoped value.
+     * The binding ends when the action returns, so there is nothing to clear afterwards.
+     *
+     * @param tenant The canonical tenant ID to bind
+     * @param action The action to run
+     * @throws X if the action throws
+     */
+    public static <X extends Exception> void runWithTenant(TenantId tenant, TenantScopedAction<X> action) throws X {
+        ScopedRun<X> run = new ScopedRun<>(action);
+        ScopedValue.where(SCOPED_TENANT, tenant).run(run);
+        run.rethrow();
+    }
+
+    /**
+     * Checks whether the current tenant comes from a scoped binding.
+     *
+     * @return true if running inside {@link #runWithTenant(TenantId, TenantScopedAction)}
+     */
+    public static boolean isScopedBound() {
+        return SCOPED_TENANT.isBound();
+    }
+
+    /**
+     * Sets the current tenant for this thread and any child threads.
+     *
+     * @param tenant The canonical tenant ID to set
+     */
+    public static void setTenant(TenantId tenant) {
+        CURRENT_TENANT.set(tenant);
+    }
+
+    /**
+     * Gets the current tenant.
+     *
+     * @return The current canonical tenant ID, or null if not set
+     */
+    public static TenantId getTenant() {
+        if (SCOPED_TENANT.isBound()) {
+            return SCOPED_TENANT.get();
+        }
+        return CURRENT_TENANT.get();
+    }
+
     /**
      * Sets the current tenant ID for this thread and any child threads.
      *
      * @param tenantId The tenant ID to set
      */
     public static void setTenantId(String tenantId) {
-        CURRENT_TENANT.set(tenantId);
+        if (tenantId == null) {
+            CURRENT_TENANT.remove();
+            return;
+        }
+        CURRENT_TENANT.set(TenantId.of(tenantId));
     }
 
     /**
@@ -25,17 +93,33 @@ public final class TenantContext {
      * @return The current tenant ID, or null if not set
      */
     public static String getTenantId() {
-        return CURRENT_TENANT.get();
+        TenantId tenant = getTenant();
+        return tenant != null ? tenant.value() : null;
     }
 
     /**
-     * Clears the current tenant context.
+     * Clears the thread-local tenant context. Scoped bindings end on their own.
      * Should be called in a finally block after request processing.
      */
     public static void clear() {
         CURRENT_TENANT.remove();
     }
 
+    /**
+     * Gets the current tenant, throwing if not set.
+     * Use this when tenant context is required.
+     *
+     * @return The current canonical tenant ID (never null)
+     * @throws IllegalStateException if tenant context is not set
+     */
+    public static TenantId requireTenant() {
+        TenantId tenant = getTenant();
+        if (tenant == null) {
+            throw new IllegalStateException("Tenant context not set - ensure TenantFilter has processed this request");
+        }
+        return tenant;
+    }
+
     /**
      * Gets the current tenant ID, throwing if not set.
      * Use this when tenant context is required.
@@ -44,10 +128,38 @@ public final class TenantContext {
      * @throws IllegalStateException if tenant context is not set
      */
     public static String requireTenantId() {
-        String tenantId = CURRENT_TENANT.get();
-        if (tenantId == null) {
-            throw new IllegalStateException("Tenant context not set - ensure TenantFilter has processed this request");
+        return requireTenant().value();
+    }
+
+    /**
+     * Adapts a {@link TenantScopedAction} to the {@link Runnable} accepted by
+     * {@link ScopedValue.Carrier#run(Runnable)}, carrying checked exceptions out of the scope.
+     */
+    private static final class ScopedRun<X extends Exception> implements Runnable {
+
+        private final TenantScopedAction<X> action;
+        private Exception failure;
+
+        private ScopedRun(TenantScopedAction<X> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            try {
+                action.run();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                failure = ex;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rethrow() throws X {
+            if (failure != null) {
+                throw (X) failure;
+            }
         }
-        return tenantId;
     }
 }
@@ -0,0 +1,136 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable index from custom domains to tenant IDs.
+ * <p>
+ * Domains are stored in a trie keyed by their characters in reverse order, so a host is matched by
+ * walking it once from the end. The longest registered domain ending on a label boundary wins:
+ * with "acme.com" registered, both "acme.com" and "app.acme.com" resolve to it, "notacme.com" does not.
+ * Lookups are O(host length) and allocation-free. Children are kept in sorted arrays to stay compact
+ * with tens of thousands of domains.
+ */
+final class TenantDomainIndex {
+
+    static final TenantDomainIndex EMPTY = new TenantDomainIndex(new Node(new char[0], new Node[0], null), 0);
+
+    private final Node root;
+    private final int size;
+
+    private TenantDomainIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index from custom domain to tenant ID.
+     *
+     * @param domains Domains (any case, optional trailing dot) mapped to tenant IDs
+     * @return The compiled index
+     */
+    static TenantDomainIndex build(Map<String, String> domains) {
+        if (domains.isEmpty()) {
+            return EMPTY;
+        }
+
+        Builder root = new Builder();
+        for (Map.Entry<String, String> entry : domains.entrySet()) {
+            String domain = entry.getKey();
+            int end = trimmedLength(domain);
+            Builder node = root;
+            for (int i = end - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(lower(domain.charAt(i)), c -> new Builder());
+            }
+            node.tenantId = entry.getValue();
+        }
+        return new TenantDomainIndex(root.freeze(), domains.size());
+    }
+
+    /**
+     * Finds the tenant owning a host.
+     *
+     * @param host Host name without port
+     * @return The tenant ID, or null if no registered domain matches
+     */
+    String find(String host) {
+        if (host == null || size == 0) {
+            return null;
+        }
+
+        int end = trimmedLength(host);
+        Node node = root;
+        String match = null;
+        for (int i = end - 1; i >= 0; i--) {
+            node = node.child(lower(host.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.tenantId != null && (i == 0 || host.charAt(i - 1) == '.')) {
+                match = node.tenantId;
+            }
+        }
+        return match;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int trimmedLength(String domain) {
+        int end = domain.length();
+        return end > 0 && domain.charAt(end - 1) == '.' ? end - 1 : end;
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static final class Node {
+        final char[] keys;
+        final Node[] children;
+        final String tenantId;
+
+        Node(char[] keys, Node[] children, String tenantId) {
+            this.keys = keys;
+            this.children = children;
+            this.tenantId = tenantId;
+        }
+
+        Node child(char c) {
+            char[] k = keys;
+            int low = 0;
+            int high = k.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char key = k[mid];
+                if (key < c) {
+                    low = mid + 1;
+                } else if (key > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+        final TreeMap<Character, Builder> children = new TreeMap<>();
+        String tenantId;
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i] = child.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, nodes, tenantId);
+        }
+    }
+}
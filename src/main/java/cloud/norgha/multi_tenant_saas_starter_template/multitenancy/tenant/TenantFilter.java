@@ -1,20 +1,29 @@
 package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
 
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics.TenantMetrics;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.persistence.HibernateTenantFilterConfigurer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 /**
- * Filter that extracts tenant ID from request header, validates it, and sets up tenant context.
+ * Filter that resolves the tenant ID from the request, validates it, and sets up tenant context.
  * Skips /admin/** paths as they don't require tenant context.
+ * <p>
+ * With {@code app.tenancy.context.scoped-values=true} the tenant is bound as a {@link ScopedValue}
+ * for the duration of the chain instead of being stored in a thread-local.
+ * Each resolved request is recorded in TenantMetrics; one that goes async is recorded when the async
+ * request completes, so its latency and status are those of the actual response.
  */
 @Component
 public class TenantFilter extends OncePerRequestFilter {
@@ -23,19 +32,29 @@ public class TenantFilter extends OncePerRequestFilter {
 
     private final TenantResolver tenantResolver;
     private final HibernateTenantFilterConfigurer filterConfigurer;
+    private final TenantMetrics tenantMetrics;
+    private final boolean scopedValues;
 
-    public TenantFilter(TenantResolver tenantResolver, HibernateTenantFilterConfigurer filterConfigurer) {
+    public TenantFilter(
+            TenantResolver tenantResolver,
+            HibernateTenantFilterConfigurer filterConfigurer,
+            TenantMetrics tenantMetrics,
+            @Value("${app.tenancy.context.scoped-values:false}") boolean scopedValues
+    ) {
         this.tenantResolver = tenantResolver;
         this.filterConfigurer = filterConfigurer;
+        this.tenantMetrics = tenantMetrics;
+        this.scopedValues = scopedValues;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        // Skip tenant resolution for admin and swagger paths
+        // Skip tenant resolution for admin, swagger and actuator paths
         String path = request.getRequestURI();
         return path.startsWith("/api/v1/admin/") 
                 || path.startsWith("/swagger-ui")
-                || path.startsWith("/v3/api-docs");
+                || path.startsWith("/v3/api-docs")
+                || path.startsWith("/actuator");
     }
 
     @Override
@@ -45,15 +64,101 @@ public class TenantFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        TenantResolution resolution = tenantResolver.resolve(request);
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean async = false;
+
         try {
-            String tenantId = tenantResolver.resolveTenant(request);
-            TenantContext.setTenantId(tenantId);
+            if (scopedValues) {
+                doFilterScoped(resolution, response, filterChain);
+            } else {
+                doFilterBound(resolution, response, filterChain);
+            }
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnCompletion(resolution.tenant(), start, response));
+                async = true;
+            }
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (!async) {
+                tenantMetrics.record(resolution.tenant(), System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    /**
+     * Records an async request once, on completion; an error or timeout before it counts as a failure.
+     */
+    private final class RecordOnCompletion implements AsyncListener {
+
+        private final TenantId tenant;
+        private final long start;
+        private final HttpServletResponse response;
+        private volatile boolean failed;
+
+        private RecordOnCompletion(TenantId tenant, long start, HttpServletResponse response) {
+            this.tenant = tenant;
+            this.start = start;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            tenantMetrics.record(tenant, System.nanoTime() - start, failed || response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void doFilterBound(
+            TenantResolution resolution,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            TenantContext.setTenant(resolution.tenant());
             filterConfigurer.enableTenantFilter();
-            log.debug("Tenant context set: {}", tenantId);
-            filterChain.doFilter(request, response);
+            log.debug("Tenant context set: {}", resolution.tenant());
+            filterChain.doFilter(resolution.request(), response);
         } finally {
             filterConfigurer.disableTenantFilter();
             TenantContext.clear();
         }
     }
+
+    private void doFilterScoped(
+            TenantResolution resolution,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            TenantContext.runWithTenant(resolution.tenant(), () -> {
+                filterConfigurer.enableTenantFilter();
+                log.debug("Tenant context bound: {}", resolution.tenant());
+                try {
+                    filterChain.doFilter(resolution.request(), response);
+                } finally {
+                    filterConfigurer.disableTenantFilter();
+                }
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantInvalidException;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical tenant identifier.
+ *
+ * Instances are interned: there is exactly one TenantId per normalized (lowercase) value,
+ * so two IDs can be compared by reference and the hash is computed once.
+ * Only tenants that exist should be interned - request input is validated with
+ * {@link #canonicalize(String)} and then looked up in the TenantRegistry, which holds the
+ * canonical instance.
+ */
+public final class TenantId {
+
+    /**
+     * Matches the tenants.id column length.
+     */
+    public static final int MAX_LENGTH = 50;
+
+    private static final ConcurrentHashMap<String, TenantId> INTERNED = new ConcurrentHashMap<>();
+
+    private final String value;
+    private final int hash;
+
+    private TenantId(String value) {
+        this.value = value;
+        this.hash = value.hashCode();
+    }
+
+    /**
+     * Gets the canonical instance for a tenant ID.
+     *
+     * @param tenantId Raw tenant ID (case-insensitive)
+     * @return The interned TenantId
+     * @throws TenantInvalidException if the ID is empty, too long or contains invalid characters
+     */
+    public static TenantId of(String tenantId) {
+        String canonical = canonicalize(tenantId);
+        if (canonical == null) {
+            throw new TenantInvalidException(tenantId);
+        }
+
+        TenantId existing = INTERNED.get(canonical);
+        return existing != null ? existing : INTERNED.computeIfAbsent(canonical, TenantId::new);
+    }
+
+    /**
+     * Validates and normalizes a raw tenant ID in a single pass.
+     * Only ASCII letters, digits, hyphens and underscores are allowed.
+     * Returns the input itself when it is already lowercase, so the common case does not allocate.
+     *
+     * @param tenantId Raw tenant ID
+     * @return The lowercase tenant ID, or null if the input is invalid
+     */
+    public static String canonicalize(String tenantId) {
+        if (tenantId == null) {
+            return null;
+        }
+
+        int length = tenantId.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return null;
+        }
+
+        boolean hasUppercase = false;
+        for (int i = 0; i < length; i++) {
+            char c = tenantId.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                hasUppercase = true;
+                continue;
+            }
+            return null;
+        }
+
+        return hasUppercase ? tenantId.toLowerCase(Locale.ROOT) : tenantId;
+    }
+
+    /**
+     * Gets the normalized tenant ID string.
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Checks whether a raw tenant ID (e.g. a JWT claim) refers to this tenant.
+     * Claims are issued from canonical values, so an exact comparison is sufficient.
+     *
+     * @param tenantId Tenant ID to compare
+     * @return true if it matches this tenant
+     */
+    public boolean matches(String tenantId) {
+        return tenantId != null
+                && tenantId.length() == value.length()
+                && (tenantId == value || value.equals(tenantId));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        // Instances are interned, so the value comparison is only a defensive fallback
+        return other instanceof TenantId that && hash == that.hash && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,423 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantLookupUnavailableException;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory registry of all tenants, used to validate tenants without touching the database.
+ *
+ * All tenants are loaded at startup. Lookups read an immutable map published through a
+ * volatile field, so they are lock-free. Writes (pushed by TenantServiceImpl, or from a
+ * periodic reload) copy the map and publish the new version.
+ *
+ * Because the map holds every tenant, it is an exact existence check: unknown IDs are
+ * rejected from memory. The optional single-row load on a miss is guarded by a bounded
+ * negative cache, a per-second budget and a concurrency limit, so a flood of random
+ * X-Tenant-ID values can never hold more than a few pool connections.
+ *
+ * Single-tenant loads go through the refresh-ahead tenant cache from CacheConfig, so concurrent
+ * misses for one tenant share a single query, and cluster invalidations reload in the background
+ * while the current snapshot keeps being served.
+ *
+ * Custom domains are compiled into a {@link TenantDomainIndex} published together with the
+ * tenant map, so host-based resolution is also served from memory.
+ *
+ * When reloads keep failing, snapshots are served for a bounded time only: a tenant whose
+ * invalidation could not be reloaded is trusted for max-stale-seconds, and the whole map for
+ * max-stale-seconds past a missed periodic reload. After that, lookups re-verify the tenant
+ * through the budgeted single-row load and answer "unavailable" if that is not possible.
+ */
+@Component
+public class TenantRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRegistry.class);
+
+    /** The miss budget is per second, so a rejected lookup can be retried after one. */
+    private static final long MISS_RETRY_AFTER_SECONDS = 1;
+
+    private final TenantRepository tenantRepository;
+    private final AsyncLoadingCache<String, TenantSnapshot> tenantCache;
+    private final long refreshIntervalSeconds;
+    private final boolean loadOnMiss;
+    private final int missLookupsPerSecond;
+    private final Semaphore missLookupPermits;
+    private final Cache<String, Boolean> unknownTenants;
+    private final long maxStaleNanos;
+    private final Object reloadLock = new Object();
+
+    private final AtomicLong missWindow = new AtomicLong();
+    private final AtomicLong missWindowCount = new AtomicLong();
+
+    /** When each tenant was last confirmed against the database outside a full reload. */
+    private final Map<String, Long> verifiedAt = new ConcurrentHashMap<>();
+
+    /** When a change to a tenant was reported but could not be reloaded. */
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    private volatile long lastReloadNanos = System.nanoTime();
+
+    private volatile State state = new State(Map.of(), TenantDomainIndex.EMPTY);
+
+    /**
+     * Writes applied while a reload is reading from the database.
+     * Re-applied on top of the reloaded state so they are not lost. Guarded by "this".
+     */
+    private Map<String, TenantSnapshot> writesDuringReload;
+
+    private ScheduledExecutorService refresher;
+
+    public TenantRegistry(
+            TenantRepository tenantRepository,
+            AsyncLoadingCache<String, TenantSnapshot> tenantCache,
+            @Value("${app.tenancy.registry.refresh-interval-seconds:3600}") long refreshIntervalSeconds,
+            @Value("${app.tenancy.registry.load-on-miss:true}") boolean loadOnMiss,
+            @Value("${app.tenancy.registry.miss-lookups-per-second:20}") int missLookupsPerSecond,
+            @Value("${app.tenancy.registry.miss-lookup-concurrency:2}") int missLookupConcurrency,
+            @Value("${app.tenancy.registry.negative-cache-ttl-seconds:60}") long negativeCacheTtlSeconds,
+            @Value("${app.tenancy.registry.negative-cache-max-size:10000}") long negativeCacheMaxSize,
+            @Value("${app.tenancy.registry.max-stale-seconds:300}") long maxStaleSeconds
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.tenantCache = tenantCache;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+        this.loadOnMiss = loadOnMiss;
+        this.missLookupsPerSecond = missLookupsPerSecond;
+        this.missLookupPermits = new Semaphore(missLookupConcurrency);
+        this.unknownTenants = Caffeine.newBuilder()
+                .expireAfterWrite(negativeCacheTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(negativeCacheMaxSize)
+                .build();
+        this.maxStaleNanos = TimeUnit.SECONDS.toNanos(maxStaleSeconds);
+    }
+
+    /**
+     * Loads all tenants and schedules the periodic reload.
+     * The reload picks up changes made by other application nodes.
+     */
+    @PostConstruct
+    public void start() {
+        reload();
+
+        if (refreshIntervalSeconds > 0) {
+            refresher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("tenant-registry-refresh").daemon().factory());
+            refresher.scheduleWithFixedDelay(this::reloadQuietly,
+                    refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets a tenant from memory.
+     *
+     * @param tenantId Normalized (lowercase) tenant ID
+     * @return The tenant, or null if not registered
+     */
+    public TenantSnapshot get(String tenantId) {
+        return state.tenants.get(tenantId);
+    }
+
+    /**
+     * Finds the tenant owning a host through its custom domain.
+     *
+     * @param host Host name without port
+     * @return The tenant, or null if no custom domain matches
+     */
+    public TenantSnapshot findByDomain(String host) {
+        State current = state;
+        String tenantId = current.domains.find(host);
+        return tenantId != null ? current.tenants.get(tenantId) : null;
+    }
+
+    /**
+     * Gets a tenant from memory, falling back to a single-row load on a miss.
+     * The fallback covers tenants created on another node since the last reload.
+     * It is skipped for IDs recently confirmed unknown and when the miss budget is spent.
+     * A snapshot older than the staleness bound goes through the same load to be re-verified.
+     *
+     * @param tenantId Normalized (lowercase) tenant ID
+     * @return The tenant, or null if it does not exist
+     * @throws TenantLookupUnavailableException if the tenant is not in memory (or too stale to serve)
+     *         and the database could not be asked
+     */
+    public TenantSnapshot lookup(String tenantId) {
+        return lookup(tenantId, System.nanoTime());
+    }
+
+    TenantSnapshot lookup(String tenantId, long now) {
+        TenantSnapshot tenant = state.tenants.get(tenantId);
+        if (tenant != null) {
+            return isTooStale(tenantId, now) ? reverify(tenantId) : tenant;
+        }
+
+        if (!loadOnMiss || unknownTenants.getIfPresent(tenantId) != null) {
+            return null;
+        }
+
+        if (!tryAcquireMissBudget() || !missLookupPermits.tryAcquire()) {
+            log.debug("Tenant miss lookup rejected (budget exhausted): {}", tenantId);
+            throw new TenantLookupUnavailableException(tenantId, MISS_RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            log.debug("Tenant registry miss, loading from database: {}", tenantId);
+            TenantSnapshot loaded = load(tenantId);
+
+            if (loaded == null) {
+                unknownTenants.put(tenantId, Boolean.TRUE);
+                return null;
+            }
+            return put(loaded);
+        } finally {
+            missLookupPermits.release();
+        }
+    }
+
+    /**
+     * Adds or replaces a tenant.
+     *
+     * @param tenant The tenant snapshot
+     * @return The registered snapshot
+     */
+    public synchronized TenantSnapshot put(TenantSnapshot tenant) {
+        verifiedAt.put(tenant.id().value(), System.nanoTime());
+        invalidatedAt.remove(tenant.id().value());
+
+        State current = state;
+        Map<String, TenantSnapshot> next = new HashMap<>(current.tenants);
+        TenantSnapshot previous = next.put(tenant.id().value(), tenant);
+
+        // Recompile the domain index only when a custom domain actually changed
+        String previousDomain = previous != null ? previous.customDomain() : null;
+        TenantDomainIndex domains = Objects.equals(previousDomain, tenant.customDomain())
+                ? current.domains
+                : indexDomains(next);
+        state = new State(Map.copyOf(next), domains);
+        unknownTenants.invalidate(tenant.id().value());
+
+        if (writesDuringReload != null) {
+            writesDuringReload.put(tenant.id().value(), tenant);
+        }
+        return tenant;
+    }
+
+    /**
+     * Reloads a single tenant in the background, dropping it if the row no longer exists.
+     * Used when another node reports a change to the tenant. Until the reload completes,
+     * and for up to max-stale-seconds if it fails, the current snapshot keeps being served.
+     *
+     * @param tenantId Normalized (lowercase) tenant ID
+     */
+    public void refresh(String tenantId) {
+        tenantCache.synchronous().refresh(tenantId).whenComplete((loaded, error) -> {
+            if (error != null) {
+                log.warn("Tenant {} reload failed, keeping current state: {}", tenantId, error.getMessage());
+                invalidatedAt.putIfAbsent(tenantId, System.nanoTime());
+            } else if (loaded != null) {
+                put(loaded);
+            } else {
+                remove(tenantId);
+            }
+        });
+    }
+
+    /**
+     * Removes a tenant.
+     *
+     * @param tenantId Normalized (lowercase) tenant ID
+     */
+    public synchronized void remove(String tenantId) {
+        verifiedAt.remove(tenantId);
+        invalidatedAt.remove(tenantId);
+        State current = state;
+        if (!current.tenants.containsKey(tenantId)) {
+            return;
+        }
+
+        Map<String, TenantSnapshot> next = new HashMap<>(current.tenants);
+        TenantSnapshot removed = next.remove(tenantId);
+        TenantDomainIndex domains = removed.customDomain() == null ? current.domains : indexDomains(next);
+        state = new State(Map.copyOf(next), domains);
+
+        if (writesDuringReload != null) {
+            // Stop the in-flight reload from resurrecting it
+            writesDuringReload.remove(tenantId);
+        }
+    }
+
+    /**
+     * Rebuilds the registry from the tenants table.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                writesDuringReload = new HashMap<>();
+            }
+
+            long started = System.nanoTime();
+            try {
+                List<Tenant> active = tenantRepository.findByActiveTrue();
+                List<Tenant> inactive = tenantRepository.findByActiveFalse();
+
+                Map<String, TenantSnapshot> next = new HashMap<>(active.size() + inactive.size());
+                active.forEach(tenant -> register(next, tenant));
+                inactive.forEach(tenant -> register(next, tenant));
+
+                synchronized (this) {
+                    next.putAll(writesDuringReload);
+                    state = new State(Map.copyOf(next), indexDomains(next));
+                    lastReloadNanos = started;
+                    verifiedAt.values().removeIf(at -> at - started < 0);
+                    invalidatedAt.values().removeIf(at -> at - started < 0);
+                }
+                unknownTenants.invalidateAll();
+                log.info("Tenant registry loaded: {} active, {} inactive", active.size(), inactive.size());
+            } finally {
+                synchronized (this) {
+                    writesDuringReload = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of registered tenants.
+     */
+    public int size() {
+        return state.tenants.size();
+    }
+
+    /**
+     * Checks whether a registered snapshot has outlived the staleness bound.
+     * A reported change that could not be reloaded starts the clock for that tenant; missed
+     * periodic reloads start it for every tenant not confirmed individually since.
+     */
+    private boolean isTooStale(String tenantId, long now) {
+        if (maxStaleNanos <= 0) {
+            return false;
+        }
+
+        Long invalidated = invalidatedAt.get(tenantId);
+        if (invalidated != null && now - invalidated > maxStaleNanos) {
+            return true;
+        }
+
+        if (refreshIntervalSeconds <= 0) {
+            return false;
+        }
+        Long verified = verifiedAt.get(tenantId);
+        long confirmed = verified != null && verified - lastReloadNanos > 0 ? verified : lastReloadNanos;
+        return now - confirmed > TimeUnit.SECONDS.toNanos(refreshIntervalSeconds) + maxStaleNanos;
+    }
+
+    /**
+     * Reloads a snapshot too stale to serve, within the same budget as misses.
+     * Anything short of a definite answer from the database is reported as unavailable.
+     */
+    private TenantSnapshot reverify(String tenantId) {
+        if (!tryAcquireMissBudget() || !missLookupPermits.tryAcquire()) {
+            throw new TenantLookupUnavailableException(tenantId, MISS_RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            tenantCache.synchronous().invalidate(tenantId);
+            TenantSnapshot loaded = load(tenantId);
+            if (loaded == null) {
+                remove(tenantId);
+                unknownTenants.put(tenantId, Boolean.TRUE);
+                return null;
+            }
+            return put(loaded);
+        } catch (RuntimeException ex) {
+            log.warn("Tenant {} is too stale to serve and could not be reloaded: {}", tenantId, ex.getMessage());
+            throw new TenantLookupUnavailableException(tenantId, MISS_RETRY_AFTER_SECONDS);
+        } finally {
+            missLookupPermits.release();
+        }
+    }
+
+    /**
+     * Takes one slot of the per-second miss budget.
+     * The window reset is racy by design; the budget is approximate.
+     */
+    private boolean tryAcquireMissBudget() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long window = missWindow.get();
+
+        if (window != second && missWindow.compareAndSet(window, second)) {
+            missWindowCount.set(0);
+        }
+        return missWindowCount.incrementAndGet() <= missLookupsPerSecond;
+    }
+
+    /**
+     * Loads one tenant through the tenant cache, joining a load already in flight for the same ID.
+     */
+    private TenantSnapshot load(String tenantId) {
+        try {
+            return tenantCache.get(tenantId).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            // Keep serving the last known state until the next attempt
+            log.warn("Tenant registry reload failed: {}", ex.getMessage());
+        }
+    }
+
+    private static TenantDomainIndex indexDomains(Map<String, TenantSnapshot> tenants) {
+        Map<String, String> domains = new HashMap<>();
+        for (TenantSnapshot tenant : tenants.values()) {
+            if (tenant.customDomain() != null) {
+                domains.put(tenant.customDomain(), tenant.id().value());
+            }
+        }
+        return TenantDomainIndex.build(domains);
+    }
+
+    private static void register(Map<String, TenantSnapshot> target, Tenant tenant) {
+        TenantSnapshot snapshot = TenantSnapshot.from(tenant);
+        target.put(snapshot.id().value(), snapshot);
+    }
+
+    /**
+     * Tenants and their domain index, swapped as one so readers never see them out of step.
+     */
+    private record State(Map<String, TenantSnapshot> tenants, TenantDomainIndex domains) {}
+}
@@ -0,0 +1,44 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the TenantRegistry in step with tenant changes made on other nodes.
+ * A tenant event reloads that one row; a full resync reloads the whole registry.
+ */
+@Component
+public class TenantRegistryInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRegistryInvalidationListener.class);
+
+    private final InvalidationBus invalidationBus;
+    private final TenantRegistry tenantRegistry;
+
+    public TenantRegistryInvalidationListener(InvalidationBus invalidationBus, TenantRegistry tenantRegistry) {
+        this.invalidationBus = invalidationBus;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(InvalidationEvent.Type.TENANT, this::onTenantChanged);
+    }
+
+    private void onTenantChanged(InvalidationEvent event) {
+        if (event.isFullResync()) {
+            tenantRegistry.reload();
+            return;
+        }
+
+        String tenantId = TenantId.canonicalize(event.key());
+        if (tenantId != null) {
+            log.debug("Tenant {} changed on node {}, reloading", tenantId, event.originNodeId());
+            tenantRegistry.refresh(tenantId);
+        }
+    }
+}
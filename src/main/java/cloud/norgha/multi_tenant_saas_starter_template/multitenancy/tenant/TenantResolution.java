@@ -0,0 +1,14 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Result of resolving the tenant for a request.
+ *
+ * @param tenant  Canonical, validated tenant ID
+ * @param request Request to pass down the filter chain (may be adapted by the strategy)
+ */
+public record TenantResolution(
+        TenantId tenant,
+        HttpServletRequest request
+) {}
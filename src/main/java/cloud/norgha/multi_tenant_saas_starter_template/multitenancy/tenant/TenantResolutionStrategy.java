@@ -0,0 +1,35 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * One way of finding the tenant a request belongs to.
+ * TenantResolver tries the configured strategies in order and uses the first one that yields a tenant.
+ * Implementations must not touch the database.
+ */
+public interface TenantResolutionStrategy {
+
+    /**
+     * Gets the name used to select this strategy in app.tenancy.resolution.strategies.
+     */
+    String name();
+
+    /**
+     * Extracts the raw tenant ID from the request.
+     *
+     * @param request The HTTP request
+     * @return The tenant ID as supplied by the client, or null if this strategy does not apply
+     */
+    String resolve(HttpServletRequest request);
+
+    /**
+     * Adapts the request for the rest of the filter chain once this strategy has resolved the tenant,
+     * e.g. to strip a tenant path prefix. Returns the request unchanged by default.
+     *
+     * @param request The HTTP request
+     * @return The request to pass down the chain
+     */
+    default HttpServletRequest adapt(HttpServletRequest request) {
+        return request;
+    }
+}
@@ -2,77 +2,128 @@ package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
 
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantDeactivatedException;
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantInvalidException;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantLookupUnavailableException;
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantMissingException;
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantNotFoundException;
-import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
-import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Resolves and validates tenant from incoming HTTP requests.
  * Validates that the tenant exists and is active before allowing the request to proceed.
- * Results are cached to reduce database lookups.
+ * Tenants are looked up in the in-memory TenantRegistry, so validation needs no database access.
+ * <p>
+ * The tenant ID is taken from the first {@link TenantResolutionStrategy} in
+ * app.tenancy.resolution.strategies that yields one (default: the X-Tenant-ID header only).
  */
 @Component
 public class TenantResolver {
 
-    private static final Logger log = LoggerFactory.getLogger(TenantResolver.class);
     public static final String TENANT_HEADER = "X-Tenant-ID";
 
-    private final TenantRepository tenantRepository;
+    private final TenantRegistry tenantRegistry;
+    private final List<TenantResolutionStrategy> strategies;
+    private final String missingMessage;
+
+    public TenantResolver(
+            TenantRegistry tenantRegistry,
+            List<TenantResolutionStrategy> availableStrategies,
+            @Value("${app.tenancy.resolution.strategies:header}") List<String> strategyNames
+    ) {
+        this.tenantRegistry = tenantRegistry;
+
+        Map<String, TenantResolutionStrategy> byName = availableStrategies.stream()
+                .collect(Collectors.toMap(TenantResolutionStrategy::name, Function.identity()));
+        List<TenantResolutionStrategy> chain = new ArrayList<>(strategyNames.size());
+        for (String name : strategyNames) {
+            TenantResolutionStrategy strategy = byName.get(name.strip());
+            if (strategy == null) {
+                throw new IllegalStateException("Unknown tenant resolution strategy: " + name
+                        + " (available: " + byName.keySet() + ")");
+            }
+            chain.add(strategy);
+        }
+        if (chain.isEmpty()) {
+            throw new IllegalStateException("At least one tenant resolution strategy must be configured");
+        }
+        this.strategies = List.copyOf(chain);
 
-    public TenantResolver(TenantRepository tenantRepository) {
-        this.tenantRepository = tenantRepository;
+        boolean headerOnly = chain.size() == 1 && HeaderTenantResolutionStrategy.NAME.equals(chain.get(0).name());
+        this.missingMessage = headerOnly
+                ? "Missing X-Tenant-ID header"
+                : "Unable to resolve tenant from request (tried: " + String.join(", ", strategyNames) + ")";
     }
 
     /**
-     * Resolves and validates the tenant from the request header.
+     * Resolves and validates the tenant from the request.
      *
-     * @param request The HTTP request containing the X-Tenant-ID header
-     * @return The validated tenant ID
-     * @throws TenantMissingException if the header is missing or blank
+     * @param request The HTTP request
+     * @return The canonical tenant ID
+     * @throws TenantMissingException if no strategy yields a tenant
      * @throws TenantInvalidException if the tenant ID contains invalid characters
      * @throws TenantNotFoundException if the tenant does not exist
+     * @throws TenantLookupUnavailableException if the tenant could not be checked right now
      * @throws TenantDeactivatedException if the tenant is deactivated
      */
-    public String resolveTenant(HttpServletRequest request) {
-        String tenantId = request.getHeader(TENANT_HEADER);
+    public TenantId resolveTenant(HttpServletRequest request) {
+        return resolve(request).tenant();
+    }
 
-        if (tenantId == null || tenantId.isBlank()) {
-            throw new TenantMissingException("Missing X-Tenant-ID header");
-        }
+    /**
+     * Resolves and validates the tenant, also returning the request to continue the chain with.
+     *
+     * @param request The HTTP request
+     * @return The resolved tenant and the (possibly adapted) request
+     * @throws TenantMissingException if no strategy yields a tenant
+     * @throws TenantInvalidException if the tenant ID contains invalid characters
+     * @throws TenantNotFoundException if the tenant does not exist
+     * @throws TenantLookupUnavailableException if the tenant could not be checked right now
+     * @throws TenantDeactivatedException if the tenant is deactivated
+     */
+    public TenantResolution resolve(HttpServletRequest request) {
+        for (TenantResolutionStrategy strategy : strategies) {
+            String tenantId = strategy.resolve(request);
+            if (tenantId == null) {
+                continue;
+            }
 
-        // Sanitize tenant ID input - only allow alphanumeric, hyphens and underscores
-        if (!tenantId.matches("^[a-zA-Z0-9-_]+$")) {
-            throw new TenantInvalidException(tenantId);
-        }
+            // Sanitize tenant ID input - only allow alphanumeric, hyphens and underscores
+            String canonical = TenantId.canonicalize(tenantId);
+            if (canonical == null) {
+                throw new TenantInvalidException(tenantId);
+            }
 
-        // Validate tenant using cached lookup
-        validateTenant(tenantId);
+            TenantId tenant = validateTenant(canonical).id();
+            return new TenantResolution(tenant, strategy.adapt(request));
+        }
 
-        return tenantId.toLowerCase();
+        throw new TenantMissingException(missingMessage);
     }
 
     /**
      * Validates that a tenant exists and is active.
-     * Results are cached to avoid repeated database lookups.
      *
-     * @param tenantId The tenant ID to validate
+     * @param tenantId The normalized tenant ID to validate
+     * @return The registered tenant
      * @throws TenantNotFoundException if the tenant does not exist
+     * @throws TenantLookupUnavailableException if the tenant could not be checked right now
      * @throws TenantDeactivatedException if the tenant is deactivated
      */
-    @Cacheable(value = "tenants", key = "#tenantId")
-    public Tenant validateTenant(String tenantId) {
-        log.debug("Validating tenant (cache miss): {}", tenantId);
-        
-        Tenant tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new TenantNotFoundException(tenantId));
-
-        if (!tenant.isActive()) {
+    public TenantSnapshot validateTenant(String tenantId) {
+        TenantSnapshot tenant = tenantRegistry.lookup(tenantId);
+
+        if (tenant == null) {
+            throw new TenantNotFoundException(tenantId);
+        }
+
+        if (!tenant.active()) {
             throw new TenantDeactivatedException(tenantId);
         }
 
@@ -0,0 +1,53 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+
+/**
+ * Immutable view of a tenant held by the TenantRegistry.
+ * Detached from JPA so it can be shared safely across request threads.
+ *
+ * @param id     Canonical tenant ID
+ * @param name   Tenant display name
+ * @param active Whether the tenant may serve requests
+ * @param maxConcurrentRequests Per-tenant in-flight request limit, or null for the global default
+ * @param customDomain Custom domain served for the tenant, or null
+ * @param planTier Plan the tenant is on
+ * @param requestsPerSecond Per-tenant override of the plan's per-second quota, or null
+ * @param requestsPerDay Per-tenant override of the plan's daily quota, or null
+ */
+public record TenantSnapshot(
+        TenantId id,
+        String name,
+        boolean active,
+        Integer maxConcurrentRequests,
+        String customDomain,
+        Tenant.PlanTier planTier,
+        Integer requestsPerSecond,
+        Long requestsPerDay
+) {
+    /**
+     * Creates a snapshot of a tenant on the free plan without quota overrides.
+     */
+    public TenantSnapshot(TenantId id, String name, boolean active, Integer maxConcurrentRequests, String customDomain) {
+        this(id, name, active, maxConcurrentRequests, customDomain, Tenant.PlanTier.FREE, null, null);
+    }
+
+    /**
+     * Creates a snapshot from a tenant entity.
+     *
+     * @param tenant The tenant entity
+     * @return TenantSnapshot instance
+     */
+    public static TenantSnapshot from(Tenant tenant) {
+        return new TenantSnapshot(
+                TenantId.of(tenant.getId()),
+                tenant.getName(),
+                tenant.isActive(),
+                tenant.getMaxConcurrentRequests(),
+                tenant.getCustomDomain(),
+                tenant.getPlanTier(),
+                tenant.getRequestsPerSecond(),
+                tenant.getRequestsPerDay()
+        );
+    }
+}
@@ -0,0 +1,5 @@
+-- Optional per-tenant in-flight request limit; NULL uses the global bulkhead default
+ALTER TABLE tenants ADD COLUMN max_concurrent_requests INTEGER;
+
+ALTER TABLE tenants ADD CONSTRAINT chk_tenants_max_concurrent_requests
+    CHECK (max_concurrent_requests IS NULL OR max_concurrent_requests > 0);
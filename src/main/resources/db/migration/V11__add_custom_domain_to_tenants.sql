@@ -0,0 +1,4 @@
+-- Optional custom domain per tenant, used for host-based tenant resolution
+ALTER TABLE tenants ADD COLUMN custom_domain VARCHAR(255);
+
+ALTER TABLE tenants ADD CONSTRAINT uk_tenants_custom_domain UNIQUE (custom_domain);
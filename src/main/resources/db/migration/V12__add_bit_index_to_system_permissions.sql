@@ -0,0 +1,20 @@
+-- Stable bit position per permission, used to encode an admin's permissions as a bitset in access tokens.
+-- Indexes come from a sequence and are never reused, so a deleted permission's bit stays meaningless.
+CREATE SEQUENCE system_permission_bit_index_seq MINVALUE 0 START WITH 0;
+
+ALTER TABLE system_permissions ADD COLUMN bit_index INTEGER;
+
+UPDATE system_permissions p
+SET bit_index = ordered.rn - 1
+FROM (SELECT id, row_number() OVER (ORDER BY created_at, name) AS rn FROM system_permissions) ordered
+WHERE p.id = ordered.id;
+
+SELECT setval('system_permission_bit_index_seq', COALESCE(MAX(bit_index) + 1, 0), false) FROM system_permissions;
+
+ALTER TABLE system_permissions
+    ALTER COLUMN bit_index SET DEFAULT nextval('system_permission_bit_index_seq'),
+    ALTER COLUMN bit_index SET NOT NULL;
+
+ALTER SEQUENCE system_permission_bit_index_seq OWNED BY system_permissions.bit_index;
+
+ALTER TABLE system_permissions ADD CONSTRAINT uk_system_permissions_bit_index UNIQUE (bit_index);
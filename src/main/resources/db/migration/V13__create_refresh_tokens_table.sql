@@ -0,0 +1,19 @@
+-- Refresh tokens for tenant users and system admins, stored only as SHA-256 hashes.
+-- Each login starts a family; every refresh marks the presented token used and issues the next one
+-- in the same family. Presenting a used token again revokes the whole family.
+CREATE TABLE refresh_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    token_hash VARCHAR(64) NOT NULL,
+    family_id UUID NOT NULL,
+    subject_id UUID NOT NULL,
+    subject_type VARCHAR(20) NOT NULL CHECK (subject_type IN ('USER', 'SYSTEM_ADMIN')),
+    tenant_id VARCHAR(50) REFERENCES tenants(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    used_at TIMESTAMP WITH TIME ZONE,
+    revoked_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_subject ON refresh_tokens(subject_id);
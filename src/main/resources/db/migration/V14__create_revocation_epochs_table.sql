@@ -0,0 +1,11 @@
+-- "Not before" epochs for access tokens: a token whose iat is at or before the epoch of its user
+-- or tenant is rejected. Rows older than the access token lifetime no longer matter and are pruned.
+CREATE TABLE revocation_epochs (
+    scope VARCHAR(10) NOT NULL CHECK (scope IN ('USER', 'TENANT')),
+    subject VARCHAR(64) NOT NULL,
+    not_before TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (scope, subject)
+);
+
+-- Incremental sync reads rows changed since the last poll
+CREATE INDEX idx_revocation_epochs_not_before ON revocation_epochs(not_before);
@@ -0,0 +1,15 @@
+-- Tokens each node has taken per rate limit key, so nodes can enforce one cluster-wide limit.
+-- Counters are cumulative per node and only matter for one refill period, so the table is UNLOGGED:
+-- it skips the WAL and is emptied after a crash, which merely resets the buckets.
+CREATE UNLOGGED TABLE rate_limit_counters (
+    rule VARCHAR(16) NOT NULL,
+    rate_key VARCHAR(400) NOT NULL,
+    node_id UUID NOT NULL,
+    tokens BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    PRIMARY KEY (rule, rate_key, node_id)
+);
+
+-- Each sync reads rows changed since the previous one and prunes rows idle for a whole period
+CREATE INDEX idx_rate_limit_counters_updated_at ON rate_limit_counters(updated_at);
@@ -0,0 +1,21 @@
+-- Plan tier per tenant; its request quotas come from configuration unless overridden per tenant
+ALTER TABLE tenants ADD COLUMN plan_tier VARCHAR(20) NOT NULL DEFAULT 'FREE';
+ALTER TABLE tenants ADD COLUMN requests_per_second INTEGER;
+ALTER TABLE tenants ADD COLUMN requests_per_day BIGINT;
+
+ALTER TABLE tenants ADD CONSTRAINT chk_tenants_plan_tier
+    CHECK (plan_tier IN ('FREE', 'STANDARD', 'ENTERPRISE'));
+ALTER TABLE tenants ADD CONSTRAINT chk_tenants_requests_per_second
+    CHECK (requests_per_second IS NULL OR requests_per_second > 0);
+ALTER TABLE tenants ADD CONSTRAINT chk_tenants_requests_per_day
+    CHECK (requests_per_day IS NULL OR requests_per_day > 0);
+
+-- Requests counted against the daily quota, per tenant and UTC day, summed over all nodes
+CREATE TABLE tenant_quota_usage (
+    tenant_id VARCHAR(50) NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    usage_date DATE NOT NULL,
+    requests BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, usage_date)
+);
+
+CREATE INDEX idx_tenant_quota_usage_date ON tenant_quota_usage(usage_date);
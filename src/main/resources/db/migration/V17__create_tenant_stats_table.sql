@@ -0,0 +1,19 @@
+-- Optional cap on active users per tenant (NULL = unlimited)
+ALTER TABLE tenants ADD COLUMN max_users INTEGER;
+
+ALTER TABLE tenants ADD CONSTRAINT chk_tenants_max_users
+    CHECK (max_users IS NULL OR max_users > 0);
+
+-- User counts per tenant, maintained in the same transaction as every user insert and deactivation,
+-- so first-user detection, user limits and dashboards never need a COUNT(*) over users
+CREATE TABLE tenant_stats (
+    tenant_id VARCHAR(50) PRIMARY KEY,
+    user_count BIGINT NOT NULL DEFAULT 0 CHECK (user_count >= 0),
+    active_user_count BIGINT NOT NULL DEFAULT 0 CHECK (active_user_count >= 0),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+INSERT INTO tenant_stats (tenant_id, user_count, active_user_count)
+SELECT tenant_id, count(*), count(*) FILTER (WHERE active)
+FROM users
+GROUP BY tenant_id;
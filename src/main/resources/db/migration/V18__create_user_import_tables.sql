@@ -0,0 +1,26 @@
+-- Bulk user imports, one row per job; rows_processed is the resume point for a re-sent file
+CREATE TABLE user_import_jobs (
+    id UUID PRIMARY KEY,
+    tenant_id VARCHAR(50) NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    rows_processed BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    rows_failed BIGINT NOT NULL DEFAULT 0,
+    failure_reason VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT chk_user_import_jobs_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT chk_user_import_jobs_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_user_import_jobs_tenant ON user_import_jobs(tenant_id, created_at);
+
+-- Rows rejected by an import, by line number in the uploaded file
+CREATE TABLE user_import_errors (
+    job_id UUID NOT NULL REFERENCES user_import_jobs(id) ON DELETE CASCADE,
+    line_number BIGINT NOT NULL,
+    email VARCHAR(255),
+    message VARCHAR(500) NOT NULL,
+    PRIMARY KEY (job_id, line_number)
+);
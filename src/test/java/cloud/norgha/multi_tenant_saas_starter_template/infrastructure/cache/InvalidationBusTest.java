@@ -0,0 +1,79 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistryFixtures;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistryInvalidationListener;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for invalidation bus delivery and the tenant registry listener.
+ */
+@ExtendWith(MockitoExtension.class)
+class InvalidationBusTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantRegistry registry;
+    private InProcessInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, null));
+        bus = new InProcessInvalidationBus();
+        new TenantRegistryInvalidationListener(bus, registry).subscribe();
+    }
+
+    @Test
+    @DisplayName("should reload a tenant changed on another node")
+    void shouldRefreshTenantOnEvent() {
+        Tenant deactivated = new Tenant("acme", "Acme");
+        deactivated.setActive(false);
+        when(tenantRepository.findById("acme")).thenReturn(Optional.of(deactivated));
+
+        bus.publish(InvalidationEvent.Type.TENANT, "acme");
+
+        assertThat(registry.get("acme").active()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep serving the last snapshot when a reload fails")
+    void shouldServeStaleOnFailure() {
+        when(tenantRepository.findById("acme")).thenThrow(new IllegalStateException("database down"));
+
+        bus.publish(InvalidationEvent.Type.TENANT, "acme");
+
+        assertThat(registry.get("acme").active()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep delivering when a subscriber fails")
+    void shouldIsolateFailingSubscriber() {
+        AtomicReference<InvalidationEvent> received = new AtomicReference<>();
+        bus.subscribe(InvalidationEvent.Type.USER_STATUS, event -> {
+            throw new IllegalStateException("boom");
+        });
+        bus.subscribe(InvalidationEvent.Type.USER_STATUS, received::set);
+
+        bus.publish(InvalidationEvent.Type.USER_STATUS, "user-1");
+
+        assertThat(received.get().key()).isEqualTo("user-1");
+        assertThat(received.get().originNodeId()).isEqualTo(bus.nodeId());
+    }
+}
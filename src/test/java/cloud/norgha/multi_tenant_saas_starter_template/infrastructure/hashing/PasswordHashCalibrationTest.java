@@ -0,0 +1,48 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for password hash cost calibration and rehash detection.
+ */
+class PasswordHashCalibrationTest {
+
+    @Test
+    @DisplayName("should stop calibrating at the first cost that reaches the target")
+    void shouldCalibrateToTarget() {
+        PasswordHashCalibration.Result result = PasswordHashCalibration.calibrate(
+                PasswordHashCalibration.Algorithm.BCRYPT, Duration.ofNanos(1), 4, 6, 1);
+
+        assertThat(result.cost()).isEqualTo(4);
+        assertThat(result.measured()).containsOnlyKeys(4);
+        assertThat(result.hashDuration()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should match legacy and other-algorithm hashes and flag them for rehash")
+    void shouldFlagWeakerHashesForUpgrade() {
+        PasswordEncoder encoder = PasswordHashCalibration.delegatingEncoder(
+                PasswordHashCalibration.Algorithm.BCRYPT, 5);
+        String legacy = new BCryptPasswordEncoder(5).encode("Secret123!");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("Secret123!");
+        String argon2 = "{argon2}" + Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("Secret123!");
+        String current = encoder.encode("Secret123!");
+
+        assertThat(current).startsWith("{bcrypt}$2a$05$");
+        assertThat(List.of(legacy, weaker, argon2, current))
+                .allMatch(hash -> encoder.matches("Secret123!", hash));
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(argon2)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.PasswordHashingOverloadedException;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the bounded password hashing pool.
+ */
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("should run operations with the caller's tenant context")
+    void shouldPropagateTenantContext() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, 1);
+        TenantContext.setTenantId("acme");
+
+        String tenant = executor.submit(TenantContext::getTenantId).get(5, TimeUnit.SECONDS);
+
+        assertThat(tenant).isEqualTo("acme");
+    }
+
+    @Test
+    @DisplayName("should run dependent stages off the hashing threads with the caller's tenant context")
+    void shouldCompleteOffHashingThreads() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, 1);
+        TenantContext.setTenantId("acme");
+        CountDownLatch release = new CountDownLatch(1);
+
+        var continuation = executor.submit(() -> {
+            awaitQuietly(release);
+            return Thread.currentThread().getName();
+        }).thenApply(hashingThread -> List.of(hashingThread, Thread.currentThread().getName(), TenantContext.getTenantId()));
+        release.countDown();
+
+        List<String> threads = continuation.get(5, TimeUnit.SECONDS);
+        assertThat(threads.get(0)).startsWith("password-hashing-");
+        assertThat(threads.get(1)).startsWith("password-hashing-continuation-");
+        assertThat(threads.get(2)).isEqualTo("acme");
+    }
+
+    @Test
+    @DisplayName("should shed operations once the queue is full")
+    void shouldShedWhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        var running = executor.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "first";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var queued = executor.submit(() -> "second");
+
+        assertThatThrownBy(() -> executor.submit(() -> "third"))
+                .isInstanceOf(PasswordHashingOverloadedException.class)
+                .extracting(ex -> ((PasswordHashingOverloadedException) ex).getRetryAfterSeconds())
+                .isEqualTo(2L);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the cluster rate limit sync: flushing local consumption, applying other nodes' growth and pruning.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterRateLimitSyncTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ClusterRateLimitSync sync;
+    private TokenBucketLimiter limiter;
+    private final List<ResultSet> changedRows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sync = new ClusterRateLimitSync(jdbcTemplate, 1_000, 1_000);
+        limiter = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+        sync.register("IP", limiter);
+    }
+
+    private void stubChangedRows() {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : changedRows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any(), any());
+    }
+
+    private static ResultSet row(String key, long tokens, boolean fresh) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("IP");
+        when(rs.getString(2)).thenReturn(key);
+        when(rs.getString(3)).thenReturn("node-b");
+        when(rs.getLong(4)).thenReturn(tokens);
+        // Only read for a row this node has not seen before
+        lenient().when(rs.getBoolean(5)).thenReturn(fresh);
+        return rs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> flushedBatch() {
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO rate_limit_counters"), batch.capture());
+        return batch.getValue();
+    }
+
+    @Test
+    @DisplayName("should flush the tokens taken per key in one batch")
+    void shouldFlushConsumption() {
+        limiter.tryAcquire("10.0.0.1");
+        limiter.tryAcquire("10.0.0.1");
+        limiter.tryAcquire("10.0.0.2");
+
+        sync.sync();
+
+        assertThat(flushedBatch())
+                .extracting(entry -> entry[0] + "|" + entry[1] + "|" + entry[3])
+                .containsExactlyInAnyOrder("IP|10.0.0.1|2", "IP|10.0.0.2|1");
+        assertThat(flushedBatch()).allSatisfy(entry -> assertThat(entry[2]).isInstanceOf(UUID.class));
+    }
+
+    @Test
+    @DisplayName("should store a digest for a key longer than the rate_key column and map it back on pull")
+    void shouldDigestTooLongKeys() throws SQLException {
+        String forged = "203.0.113.7" + "9".repeat(8 * 1024);
+        limiter.tryAcquire(forged);
+
+        sync.sync();
+
+        Object[] entry = flushedBatch().getFirst();
+        String stored = (String) entry[1];
+        assertThat(stored).startsWith("sha256:").hasSizeLessThanOrEqualTo(TokenBucketLimiter.MAX_KEY_LENGTH);
+
+        TokenBucketLimiter otherNode = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+        ClusterRateLimitSync otherSync = new ClusterRateLimitSync(jdbcTemplate, 1_000, 1_000);
+        otherSync.register("IP", otherNode);
+        changedRows.add(row(stored, 9, true));
+        stubChangedRows();
+
+        otherSync.sync();
+
+        assertThat(otherNode.tryAcquire(forged).remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("should still pull other nodes' consumption when the flush fails")
+    void shouldPullWhenFlushFails() throws SQLException {
+        limiter.tryAcquire("10.0.0.1");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        changedRows.add(row("10.0.0.9", 4, true));
+        stubChangedRows();
+
+        sync.sync();
+
+        assertThat(limiter.tryAcquire("10.0.0.9").remaining()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should apply only the growth of a counter seen before and baseline an old one")
+    void shouldApplyCounterGrowth() throws SQLException {
+        changedRows.add(row("10.0.0.1", 3, true));
+        changedRows.add(row("10.0.0.2", 6, false));
+        stubChangedRows();
+        sync.sync();
+
+        changedRows.clear();
+        changedRows.add(row("10.0.0.1", 5, true));
+        changedRows.add(row("10.0.0.2", 7, false));
+        sync.sync();
+
+        // 3 + 2 tokens for the new counter, only the growth of 1 for the one that predates this node
+        assertThat(limiter.tryAcquire("10.0.0.1").remaining()).isEqualTo(4);
+        assertThat(limiter.tryAcquire("10.0.0.2").remaining()).isEqualTo(8);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("should prune counters idle for the longest period plus two intervals")
+    void shouldPruneIdleCounters() {
+        sync.register("EMAIL", new TokenBucketLimiter(5, Duration.ofMinutes(5), 1_000));
+
+        sync.sync();
+
+        verify(jdbcTemplate).update(startsWith("DELETE FROM rate_limit_counters"),
+                eq(Duration.ofMinutes(5).toMillis() + 2_000L));
+    }
+}
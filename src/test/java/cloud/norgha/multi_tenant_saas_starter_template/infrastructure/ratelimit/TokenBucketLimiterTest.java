@@ -0,0 +1,92 @@
+package cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the token bucket limiter: per-key capacity, bounded key state and remote consumption.
+ */
+class TokenBucketLimiterTest {
+
+    @Test
+    @DisplayName("should stay within its key limit and keep a hammering client limited during an IP spray")
+    void shouldStayBoundedUnderKeySpray() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("attacker");
+        }
+
+        for (int i = 0; i < 200_000; i++) {
+            assertThat(limiter.tryAcquire("spray-" + i).allowed()).isTrue();
+            if (i % 1_000 == 0) {
+                assertThat(limiter.tryAcquire("attacker").allowed()).isFalse();
+            }
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(1_000);
+        assertThat(limiter.tryAcquire("attacker").allowed()).isFalse();
+        assertThat(limiter.tryAcquire("203.0.113.7").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should release a pinned key once its bucket is full again")
+    void shouldReleasePinnedKeyAfterRefill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, Duration.ofSeconds(10), 10);
+        long now = System.nanoTime();
+        limiter.tryAcquire("attacker", now);
+        limiter.tryAcquire("attacker", now);
+        assertThat(limiter.tryAcquire("attacker", now).allowed()).isFalse();
+
+        // The one-slot tier is full, so pinning another key first drops the refilled attacker
+        long later = now + Duration.ofSeconds(11).toNanos();
+        limiter.tryAcquire("other", later);
+        limiter.tryAcquire("other", later);
+        assertThat(limiter.tryAcquire("other", later).allowed()).isFalse();
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("spray-" + i, later);
+        }
+        assertThat(limiter.tryAcquire("other", later).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("attacker", later).remaining()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should take tokens spent on other nodes from the local bucket")
+    void shouldApplyConsumptionFromOtherNodes() {
+        TokenBucketLimiter nodeA = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+        TokenBucketLimiter nodeB = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+        nodeA.enableConsumptionCounting();
+
+        for (int i = 0; i < 7; i++) {
+            nodeA.tryAcquire("10.0.0.1");
+        }
+        Map<String, Long> consumed = nodeA.drainConsumed();
+        consumed.forEach(nodeB::applyRemote);
+
+        assertThat(consumed).containsExactly(Map.entry("10.0.0.1", 7L));
+        assertThat(nodeA.drainConsumed()).isEmpty();
+        assertThat(nodeB.tryAcquire("10.0.0.1").remaining()).isEqualTo(2);
+        nodeB.applyRemote("10.0.0.1", 50);
+        assertThat(nodeB.tryAcquire("10.0.0.1").allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should allow exactly the capacity for one key")
+    void shouldAllowCapacityPerKey() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, Duration.ofMinutes(1), 1_000);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1").remaining()).isEqualTo(9 - i);
+        }
+
+        TokenBucketLimiter.Decision denied = limiter.tryAcquire("10.0.0.1");
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.resetSeconds()).isBetween(1L, 6L);
+        assertThat(limiter.tryAcquire("10.0.0.2").allowed()).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InvalidationBus;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.dto.UpdateTenantRequestDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security.RevocationRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for tenant updates and the token revocation on deactivation.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantServiceImplTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private TenantRegistry tenantRegistry;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private RevocationRegistry revocationRegistry;
+
+    private TenantServiceImpl service;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        service = new TenantServiceImpl(tenantRepository, tenantRegistry, invalidationBus, revocationRegistry);
+        tenant = new Tenant("acme", "Acme");
+        when(tenantRepository.findById("acme")).thenReturn(Optional.of(tenant));
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("should revoke the tenant's tokens when an update deactivates it")
+    void shouldRevokeWhenUpdateDeactivates() {
+        service.updateTenant("acme", activeOnly(false));
+
+        assertThat(tenant.isActive()).isFalse();
+        verify(revocationRegistry).revokeTenant("acme");
+    }
+
+    @Test
+    @DisplayName("should revoke the tenant's tokens when it is deactivated")
+    void shouldRevokeOnDeactivate() {
+        service.deactivateTenant("acme");
+
+        assertThat(tenant.isActive()).isFalse();
+        verify(revocationRegistry).revokeTenant("acme");
+    }
+
+    @Test
+    @DisplayName("should not revoke again when the tenant was already inactive")
+    void shouldNotRevokeInactiveTenant() {
+        tenant.setActive(false);
+
+        service.updateTenant("acme", activeOnly(false));
+        service.deactivateTenant("acme");
+
+        verify(revocationRegistry, never()).revokeTenant(any());
+    }
+
+    @Test
+    @DisplayName("should not revoke when an update keeps or restores the tenant active")
+    void shouldNotRevokeWhenStillActive() {
+        service.updateTenant("acme", activeOnly(true));
+        service.updateTenant("acme", new UpdateTenantRequestDto("Acme Corp", null, null, null, null, null, null, null));
+
+        assertThat(tenant.isActive()).isTrue();
+        verify(revocationRegistry, never()).revokeTenant(any());
+    }
+
+    private static UpdateTenantRequestDto activeOnly(boolean active) {
+        return new UpdateTenantRequestDto(null, active, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,63 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for tenant user statistics.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantStatsServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private TenantStatsServiceImpl tenantStatsService;
+
+    @BeforeEach
+    void setUp() {
+        tenantStatsService = new TenantStatsServiceImpl(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq("acme"), eq(1), eq(1), eq("acme")))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(1).mapRow(resultSet, 0));
+    }
+
+    @Test
+    @DisplayName("should return the tenant's user count from the upsert")
+    void shouldCountCreatedUser() throws Exception {
+        when(resultSet.getLong("user_count")).thenReturn(1L);
+        when(resultSet.getLong("active_user_count")).thenReturn(1L);
+        when(resultSet.getObject("max_users")).thenReturn(null);
+
+        assertThat(tenantStatsService.recordUserCreated("acme")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject a user beyond the tenant's active user limit")
+    void shouldEnforceMaxUsers() throws Exception {
+        when(resultSet.getLong("user_count")).thenReturn(7L);
+        when(resultSet.getLong("active_user_count")).thenReturn(6L);
+        when(resultSet.getObject("max_users")).thenReturn(5);
+
+        assertThatThrownBy(() -> tenantStatsService.recordUserCreated("acme"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("5 active users");
+    }
+}
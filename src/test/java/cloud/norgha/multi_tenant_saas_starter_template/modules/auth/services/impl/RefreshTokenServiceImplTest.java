@@ -0,0 +1,114 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.entity.RefreshToken;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.repository.RefreshTokenRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.auth.services.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for refresh token issue, rotation, reuse detection and cleanup.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final Map<String, RefreshToken> stored = new java.util.HashMap<>();
+    private RefreshTokenServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            stored.put(token.getTokenHash(), token);
+            return token;
+        });
+        lenient().when(refreshTokenRepository.findForRotation(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<String>getArgument(0))));
+        service = new RefreshTokenServiceImpl(refreshTokenRepository, 3600, 0);
+    }
+
+    @Test
+    @DisplayName("should rotate a refresh token and store only hashes")
+    void shouldRotateAndStoreHashes() {
+        UUID userId = UUID.randomUUID();
+        String first = service.issue(userId, RefreshToken.SubjectType.USER, "acme-corp");
+
+        RefreshTokenService.Rotation rotation = service.rotate(first, RefreshToken.SubjectType.USER, "acme-corp");
+
+        assertThat(rotation.subjectId()).isEqualTo(userId);
+        assertThat(rotation.refreshToken()).isNotEqualTo(first);
+        assertThat(stored).hasSize(2).doesNotContainKeys(first, rotation.refreshToken());
+        assertThat(stored.values()).extracting(RefreshToken::getFamilyId).containsOnly(stored.values().iterator().next().getFamilyId());
+    }
+
+    @Test
+    @DisplayName("should revoke the family when a rotated token is reused")
+    void shouldRevokeFamilyOnReuse() {
+        String first = service.issue(UUID.randomUUID(), RefreshToken.SubjectType.USER, "acme-corp");
+        service.rotate(first, RefreshToken.SubjectType.USER, "acme-corp");
+
+        assertThatThrownBy(() -> service.rotate(first, RefreshToken.SubjectType.USER, "acme-corp"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository).revokeFamily(eq(stored.values().iterator().next().getFamilyId()), any());
+    }
+
+    @Test
+    @DisplayName("should delete the family's spent tokens but keep the one just rotated")
+    void shouldPruneFamilyOnRotation() {
+        String first = service.issue(UUID.randomUUID(), RefreshToken.SubjectType.USER, "acme-corp");
+        UUID familyId = stored.values().iterator().next().getFamilyId();
+
+        service.rotate(first, RefreshToken.SubjectType.USER, "acme-corp");
+
+        verify(refreshTokenRepository).deleteSpentInFamily(
+                eq(familyId), eq(RefreshTokenServiceImpl.hash(first)), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should delete expired tokens in batches until a batch comes back short")
+    void shouldDeleteExpiredInBatches() {
+        Instant now = Instant.now();
+        when(refreshTokenRepository.deleteExpiredBatch(now, 1000)).thenReturn(1000, 1000, 7);
+
+        assertThat(service.deleteExpired(now)).isEqualTo(2007);
+        verify(refreshTokenRepository, times(3)).deleteExpiredBatch(now, 1000);
+    }
+
+    @Test
+    @DisplayName("should reject a token presented for another tenant or subject type")
+    void shouldRejectForeignTokens() {
+        String token = service.issue(UUID.randomUUID(), RefreshToken.SubjectType.USER, "acme-corp");
+
+        assertThatThrownBy(() -> service.rotate(token, RefreshToken.SubjectType.USER, "globex"))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> service.rotate(token, RefreshToken.SubjectType.SYSTEM_ADMIN, null))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> service.rotate("unknown", RefreshToken.SubjectType.USER, "acme-corp"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+}
@@ -0,0 +1,90 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportRecordDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for reading CSV and NDJSON user import files.
+ */
+class UserImportReaderTest {
+
+    private UserImportReader reader(String content, UserImportService.Format format) throws Exception {
+        return new UserImportReader(new BufferedReader(new StringReader(content)), format,
+                JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("should read CSV rows by header, with quoted fields and per-row errors")
+    void shouldReadCsvRows() throws Exception {
+        UserImportReader reader = reader("""
+                \uFEFFEmail,full_name,companyName,password,notes
+                ada@acme.io,"Lovelace, Ada",Acme,Secret-1,"said ""hi""\"
+
+                bob@acme.io,Bob,Acme
+                """, UserImportService.Format.CSV);
+
+        UserImportReader.Row first = reader.next();
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.record()).isEqualTo(
+                new UserImportRecordDto("ada@acme.io", "Secret-1", null, "Lovelace, Ada", "Acme"));
+
+        UserImportReader.Row second = reader.next();
+        assertThat(second.line()).isEqualTo(4);
+        assertThat(second.record()).isNull();
+        assertThat(second.error()).isEqualTo("Row has 3 fields but the header has 5");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject a CSV header without the required columns")
+    void shouldRejectIncompleteCsvHeader() {
+        assertThatThrownBy(() -> reader("email,fullName\n", UserImportService.Format.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CSV header");
+    }
+
+    @Test
+    @DisplayName("should read NDJSON lines and report malformed ones")
+    void shouldReadNdjsonRows() throws Exception {
+        UserImportReader reader = reader("""
+                {"email":" ada@acme.io ","passwordHash":"{bcrypt}$2a$10$x","fullName":"Ada","companyName":"Acme"}
+                {"email":
+                """, UserImportService.Format.NDJSON);
+
+        assertThat(reader.next().record()).isEqualTo(
+                new UserImportRecordDto("ada@acme.io", null, "{bcrypt}$2a$10$x", "Ada", "Acme"));
+        UserImportReader.Row malformed = reader.next();
+        assertThat(malformed.line()).isEqualTo(2);
+        assertThat(malformed.error()).startsWith("Invalid JSON");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("should report an over-long line as a row error and keep reading after it")
+    void shouldReportOverLongLine() throws Exception {
+        String longName = "x".repeat(UserImportReader.MAX_LINE_LENGTH);
+        UserImportReader reader = reader("email,fullName,companyName,password\r\n"
+                + "ada@acme.io," + longName + ",Acme,Secret-1\r\n"
+                + "bob@acme.io,Bob,Acme,Secret-2\r\n", UserImportService.Format.CSV);
+
+        UserImportReader.Row overLong = reader.next();
+        assertThat(overLong.line()).isEqualTo(2);
+        assertThat(overLong.record()).isNull();
+        assertThat(overLong.error()).isEqualTo(
+                "Line is longer than " + UserImportReader.MAX_LINE_LENGTH + " characters");
+
+        UserImportReader.Row next = reader.next();
+        assertThat(next.line()).isEqualTo(3);
+        assertThat(next.record()).isEqualTo(new UserImportRecordDto("bob@acme.io", "Secret-2", null, "Bob", "Acme"));
+        assertThat(reader.next()).isNull();
+    }
+}
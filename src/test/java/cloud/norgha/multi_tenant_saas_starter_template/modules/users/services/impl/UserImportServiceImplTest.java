@@ -0,0 +1,250 @@
+package cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.impl;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.hashing.PasswordHashingExecutor;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.services.TenantStatsService;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportErrorDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.dto.UserImportResponseDto;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.users.services.UserImportService;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for chunked bulk user imports.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+    private static final UUID JOB_ID = UUID.fromString("6f1c2d3e-4a5b-4c6d-8e7f-901234567890");
+    private static final String BCRYPT_HASH = "$2a$10$" + "a".repeat(53);
+    private static final String HEADER = "email,password,passwordHash,fullName,companyName\n";
+
+    /** Arrays bound to one INSERT ... FROM unnest(...): ids, emails, hashes, full names, company names. */
+    private record Insert(String sql, Object[] ids, Object[] emails, Object[] hashes) {
+    }
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TenantStatsService tenantStatsService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ResultSet jobRow;
+
+    private final List<Insert> inserts = new ArrayList<>();
+    private final Set<String> registeredEmails = new HashSet<>();
+    private final List<UserImportErrorDto> reportedErrors = new ArrayList<>();
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private UserImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TenantContext.setTenantId("acme");
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 16, 1);
+        importService = new UserImportServiceImpl(jdbcTemplate, transactionManager, passwordEncoder,
+                passwordHashingExecutor, tenantStatsService, validator, JsonMapper.builder().build(),
+                2, 1, 0, 300);
+
+        lenient().when(validator.validate(any())).thenReturn(Set.of());
+        lenient().when(passwordEncoder.encode(anyString()))
+                .thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        lenient().when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> insertUsers(invocation.getArgument(0)));
+        lenient().when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO user_import_errors"), anyCollection(),
+                        anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    reportedErrors.addAll(invocation.<Collection<UserImportErrorDto>>getArgument(1));
+                    return new int[0][];
+                });
+        lenient().when(jdbcTemplate.query(startsWith("SELECT id, tenant_id"), any(RowMapper.class), eq(JOB_ID)))
+                .thenAnswer(invocation -> List.of(invocation.<RowMapper<?>>getArgument(1).mapRow(jobRow, 0)));
+        lenient().when(jobRow.getString("tenant_id")).thenReturn("acme");
+        lenient().when(jobRow.getObject("id", UUID.class)).thenReturn(JOB_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.stop();
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("should insert each chunk with one unnest statement, hashing only plaintext passwords")
+    void shouldInsertChunksWithUnnest() throws Exception {
+        claimJob(0);
+
+        importService.importUsers(JOB_ID, UserImportService.Format.CSV, csv(
+                "ada@acme.io,Secret-1,,Ada,Acme",
+                "bob@acme.io,," + BCRYPT_HASH + ",Bob,Acme",
+                "carol@acme.io,Secret-3,,Carol,Acme"));
+
+        assertThat(inserts).hasSize(2);
+        assertThat(inserts.getFirst().sql()).contains("unnest(");
+        assertThat(inserts.getFirst().emails()).containsExactly("ada@acme.io", "bob@acme.io");
+        assertThat(inserts.getFirst().hashes()).containsExactly("hashed:Secret-1", BCRYPT_HASH);
+        assertThat(inserts.get(1).emails()).containsExactly("carol@acme.io");
+        verify(passwordEncoder, never()).encode(BCRYPT_HASH);
+        verify(tenantStatsService).recordUsersCreated("acme", 2);
+        verify(tenantStatsService).recordUsersCreated("acme", 1);
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(2L), eq(2), eq(0), eq(JOB_ID));
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(3L), eq(1), eq(0), eq(JOB_ID));
+        verify(jdbcTemplate).update(contains("SET status"), eq("COMPLETED"), isNull(), eq(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("should report emails already registered or repeated in the file and import the rest")
+    void shouldReportDuplicateEmails() throws Exception {
+        claimJob(0);
+        registeredEmails.add("bob@acme.io");
+
+        importService.importUsers(JOB_ID, UserImportService.Format.CSV, csv(
+                "ada@acme.io,Secret-1,,Ada,Acme",
+                "bob@acme.io,Secret-2,,Bob,Acme",
+                "ada@acme.io,Secret-3,,Ada Again,Acme"));
+
+        assertThat(reportedErrors).containsExactly(
+                new UserImportErrorDto(3, "bob@acme.io", "Email already registered in this tenant"),
+                new UserImportErrorDto(4, "ada@acme.io", "Email already registered in this tenant"));
+        verify(tenantStatsService).recordUsersCreated("acme", 1);
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(2L), eq(1), eq(1), eq(JOB_ID));
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(3L), eq(0), eq(1), eq(JOB_ID));
+        verify(jdbcTemplate).update(contains("SET status"), eq("COMPLETED"), isNull(), eq(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("should resume a job after the rows it already committed")
+    void shouldResumeAfterCommittedRows() throws Exception {
+        claimJob(2);
+
+        importService.importUsers(JOB_ID, UserImportService.Format.CSV, csv(
+                "ada@acme.io,Secret-1,,Ada,Acme",
+                "bob@acme.io,Secret-2,,Bob,Acme",
+                "carol@acme.io,Secret-3,,Carol,Acme",
+                "dan@acme.io,Secret-4,,Dan,Acme"));
+
+        assertThat(inserts).hasSize(1);
+        assertThat(inserts.getFirst().emails()).containsExactly("carol@acme.io", "dan@acme.io");
+        verify(passwordEncoder, never()).encode("Secret-1");
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(4L), eq(2), eq(0), eq(JOB_ID));
+        verify(jdbcTemplate).update(contains("SET status"), eq("COMPLETED"), isNull(), eq(JOB_ID));
+    }
+
+    @Test
+    @DisplayName("should fail the job at the tenant's user limit and keep the chunks committed before it")
+    void shouldFailAtMaxUsers() throws Exception {
+        claimJob(0);
+        when(tenantStatsService.recordUsersCreated("acme", 2))
+                .thenReturn(2L)
+                .thenThrow(new IllegalStateException("Tenant has reached its limit of 3 active users"));
+        when(jobRow.getString("status")).thenReturn("FAILED");
+        when(jobRow.getString("failure_reason")).thenReturn("Tenant has reached its limit of 3 active users");
+
+        UserImportResponseDto response = importService.importUsers(JOB_ID, UserImportService.Format.CSV, csv(
+                "ada@acme.io,Secret-1,,Ada,Acme",
+                "bob@acme.io,Secret-2,,Bob,Acme",
+                "carol@acme.io,Secret-3,,Carol,Acme",
+                "dan@acme.io,Secret-4,,Dan,Acme",
+                "erin@acme.io,Secret-5,,Erin,Acme"));
+
+        assertThat(response.status()).isEqualTo("FAILED");
+        assertThat(inserts).hasSize(2);
+        verify(jdbcTemplate).update(contains("SET rows_processed"), eq(2L), eq(2), eq(0), eq(JOB_ID));
+        verify(jdbcTemplate, never()).update(contains("SET rows_processed"), eq(4L), anyInt(), anyInt(), eq(JOB_ID));
+        verify(transactionManager).rollback(any());
+        verify(jdbcTemplate).update(contains("SET status"), eq("FAILED"),
+                eq("Tenant has reached its limit of 3 active users"), eq(JOB_ID));
+        verify(jdbcTemplate, never()).update(contains("SET status"), eq("COMPLETED"), any(), eq(JOB_ID));
+    }
+
+    private void claimJob(long rowsProcessed) {
+        when(jdbcTemplate.query(startsWith("INSERT INTO user_import_jobs"), any(RowMapper.class),
+                eq(JOB_ID), eq("acme"), eq("CSV"), eq(300L)))
+                .thenReturn(List.of(rowsProcessed));
+    }
+
+    private static InputStream csv(String... rows) {
+        return new ByteArrayInputStream((HEADER + String.join("\n", rows) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Binds the statement to a mock connection and acts as the ON CONFLICT DO NOTHING insert.
+     */
+    private List<UUID> insertUsers(PreparedStatementCreator creator) throws Exception {
+        List<String> sql = new ArrayList<>();
+        List<Object[]> arrays = new ArrayList<>();
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            sql.add(invocation.getArgument(0));
+            return mock(PreparedStatement.class);
+        });
+        when(connection.createArrayOf(anyString(), any())).thenAnswer(invocation -> {
+            arrays.add(invocation.getArgument(1));
+            return mock(Array.class);
+        });
+        PreparedStatement statement = creator.createPreparedStatement(connection);
+        verify(statement).setString(1, "acme");
+
+        Insert insert = new Insert(sql.getFirst(), arrays.get(0), arrays.get(1), arrays.get(2));
+        inserts.add(insert);
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < insert.ids().length; i++) {
+            if (registeredEmails.add((String) insert.emails()[i])) {
+                inserted.add((UUID) insert.ids()[i]);
+            }
+        }
+        return inserted;
+    }
+}
@@ -2,10 +2,13 @@ package cloud.norgha.multi_tenant_saas_starter_template.multitenancy;
 
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantInvalidException;
 import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantMissingException;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.async.TenantAwareTaskDecorator;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.HeaderTenantResolutionStrategy;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistryFixtures;
 import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantResolver;
-import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -92,6 +95,22 @@ class MultiTenancySecurityTest {
             latch.await(1, TimeUnit.SECONDS);
             assertThat(childTenant.get()).isEqualTo("parent-tenant");
         }
+
+        @Test
+        @DisplayName("should let a scoped binding take precedence and end with the action")
+        void scopedBindingShouldEndWithAction() {
+            TenantContext.setTenantId("thread-tenant");
+            AtomicReference<String> insideScope = new AtomicReference<>();
+
+            TenantContext.runWithTenant(TenantId.of("scoped-tenant"), () -> {
+                insideScope.set(TenantContext.getTenantId());
+                assertThat(TenantContext.isScopedBound()).isTrue();
+            });
+
+            assertThat(insideScope.get()).isEqualTo("scoped-tenant");
+            assertThat(TenantContext.isScopedBound()).isFalse();
+            assertThat(TenantContext.getTenantId()).isEqualTo("thread-tenant");
+        }
     }
 
     @Nested
@@ -105,7 +124,8 @@ class MultiTenancySecurityTest {
 
         @BeforeEach
         void setUp() {
-            resolver = new TenantResolver(tenantRepository);
+            resolver = TenantRegistryFixtures.newResolver(
+                    TenantRegistryFixtures.newRegistry(tenantRepository), new HeaderTenantResolutionStrategy());
         }
 
         @Test
@@ -152,8 +172,8 @@ class MultiTenancySecurityTest {
         @Test
         @DisplayName("should accept valid tenant ID with alphanumeric, hyphens, underscores")
         void shouldAcceptValidTenantId() {
-            // Note: This test would need mocked tenantRepository.findById to fully pass
-            // For now, we verify the validation passes before the DB lookup throws
+            // Note: This test would need a registered tenant to fully pass
+            // For now, we verify the validation passes before the registry lookup throws
             MockHttpServletRequest request = new MockHttpServletRequest();
             request.addHeader("X-Tenant-ID", "Valid-Tenant_123");
             
@@ -206,6 +226,27 @@ class MultiTenancySecurityTest {
             assertThat(capturedTenant.get()).isEqualTo("async-tenant");
         }
 
+        @Test
+        @DisplayName("should re-bind a scoped tenant in the decorated task")
+        void shouldPropagateScopedContext() throws InterruptedException {
+            AtomicReference<Runnable> decoratedTask = new AtomicReference<>();
+            AtomicReference<String> capturedTenant = new AtomicReference<>();
+            AtomicReference<Boolean> capturedScoped = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(1);
+            TenantContext.runWithTenant(TenantId.of("scoped-tenant"), () ->
+                    decoratedTask.set(decorator.decorate(() -> {
+                        capturedTenant.set(TenantContext.getTenantId());
+                        capturedScoped.set(TenantContext.isScopedBound());
+                        latch.countDown();
+                    })));
+
+            Thread.ofVirtual().start(decoratedTask.get());
+
+            latch.await(1, TimeUnit.SECONDS);
+            assertThat(capturedTenant.get()).isEqualTo("scoped-tenant");
+            assertThat(capturedScoped.get()).isTrue();
+        }
+
         @Test
         @DisplayName("should clear tenant context after task completion")
         void shouldClearContextAfterTask() throws InterruptedException {
@@ -0,0 +1,114 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.bulkhead;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantContext;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistryFixtures;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the per-tenant concurrency bulkhead and its admission filter.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantBulkheadTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantRegistry registry;
+    private TenantBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+        registry.put(new TenantSnapshot(TenantId.of("big"), "Big Corp", true, 2, null));
+        registry.put(new TenantSnapshot(TenantId.of("small"), "Small Co", true, null, null));
+        bulkhead = new TenantBulkhead(registry, 1, 5, 10);
+    }
+
+    @Test
+    @DisplayName("should apply per-tenant override and global default")
+    void shouldApplyOverride() {
+        assertThat(bulkhead.limitFor(TenantId.of("big"))).isEqualTo(2);
+        assertThat(bulkhead.limitFor(TenantId.of("small"))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject a saturated tenant without affecting others")
+    void shouldIsolateTenants() {
+        TenantBulkhead.Admission first = bulkhead.enter(TenantId.of("big"));
+        TenantBulkhead.Admission second = bulkhead.enter(TenantId.of("big"));
+        TenantBulkhead.Admission third = bulkhead.enter(TenantId.of("big"));
+
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isTrue();
+        assertThat(third.outcome()).isEqualTo(TenantBulkhead.Outcome.TIMED_OUT);
+        assertThat(bulkhead.enter(TenantId.of("small")).admitted()).isTrue();
+
+        first.release();
+        first.release();
+        assertThat(bulkhead.enter(TenantId.of("big")).admitted()).isTrue();
+        assertThat(bulkhead.enter(TenantId.of("big")).admitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not let a new arrival overtake a request already queued")
+    void shouldServeQueuedRequestFirst() throws Exception {
+        TenantBulkhead waitingBulkhead = new TenantBulkhead(registry, 1, 5, 5_000);
+        TenantId tenant = TenantId.of("small");
+        List<String> admittedOrder = Collections.synchronizedList(new ArrayList<>());
+        TenantBulkhead.Admission holder = waitingBulkhead.enter(tenant);
+
+        Thread queued = Thread.ofPlatform().start(() -> {
+            TenantBulkhead.Admission admission = waitingBulkhead.enter(tenant);
+            admittedOrder.add("queued");
+            admission.release();
+        });
+        while (queued.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        holder.release();
+        TenantBulkhead.Admission arrival = waitingBulkhead.enter(tenant);
+        admittedOrder.add("arrival");
+        arrival.release();
+        queued.join(5_000);
+
+        assertThat(arrival.admitted()).isTrue();
+        assertThat(admittedOrder).containsExactly("queued", "arrival");
+    }
+
+    @Test
+    @DisplayName("should hold an async request's slot until the async request completes")
+    void shouldHoldSlotUntilAsyncCompletes() throws Exception {
+        TenantBulkheadFilter filter = new TenantBulkheadFilter(bulkhead, true, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setAsyncSupported(true);
+
+        TenantContext.setTenant(TenantId.of("small"));
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        } finally {
+            TenantContext.clear();
+        }
+
+        assertThat(bulkhead.enter(TenantId.of("small")).admitted()).isFalse();
+        request.getAsyncContext().complete();
+        assertThat(bulkhead.enter(TenantId.of("small")).admitted()).isTrue();
+    }
+}
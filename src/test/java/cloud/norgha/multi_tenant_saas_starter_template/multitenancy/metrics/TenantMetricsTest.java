@@ -0,0 +1,37 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics;
+
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for per-tenant request metrics with bounded cardinality.
+ */
+class TenantMetricsTest {
+
+    @Test
+    @DisplayName("should meter only the heaviest tenants and bucket the rest as other")
+    void shouldBoundCardinality() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TenantMetrics metrics = new TenantMetrics(meterRegistry, 1, 64, 0);
+
+        // A zero interval re-ranks (and decays) on every request
+        metrics.record(TenantId.of("small"), 1_000_000, true);
+        for (int i = 0; i < 100; i++) {
+            metrics.record(TenantId.of("big"), 1_000_000, false);
+        }
+
+        assertThat(meterRegistry.find(TenantMetrics.REQUESTS_METER).tag("tenant", "big").timer()).isNotNull();
+        assertThat(meterRegistry.find(TenantMetrics.REQUESTS_METER).tag("tenant", "small").timer()).isNull();
+        assertThat(meterRegistry.find(TenantMetrics.ERRORS_METER).tag("tenant", TenantMetrics.OTHER).counter().count())
+                .isEqualTo(1.0);
+
+        List<TenantUsage> usage = metrics.usage();
+        assertThat(usage).extracting(TenantUsage::tenantId).containsExactly("big", TenantMetrics.OTHER);
+    }
+}
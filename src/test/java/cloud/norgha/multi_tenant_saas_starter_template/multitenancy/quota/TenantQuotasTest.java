@@ -0,0 +1,71 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.quota;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantId;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistry;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantRegistryFixtures;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant.TenantSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for plan-tier request quotas.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantQuotasTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantQuotas quotas;
+
+    @BeforeEach
+    void setUp() {
+        TenantRegistry registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+        registry.put(new TenantSnapshot(TenantId.of("free"), "Free Co", true, null, null));
+        registry.put(new TenantSnapshot(TenantId.of("capped"), "Capped Inc", true, null, null,
+                Tenant.PlanTier.STANDARD, null, 3L));
+        quotas = new TenantQuotas(registry, null, 2, 1_000, 50, 1_000_000, 200, 0, 0, 90);
+    }
+
+    @Test
+    @DisplayName("should apply plan defaults with per-tenant overrides")
+    void shouldResolveLimits() {
+        assertThat(quotas.limitsFor(TenantId.of("free")))
+                .isEqualTo(new TenantQuotas.Limits(Tenant.PlanTier.FREE, 2, 1_000));
+        assertThat(quotas.limitsFor(TenantId.of("capped")))
+                .isEqualTo(new TenantQuotas.Limits(Tenant.PlanTier.STANDARD, 50, 3));
+    }
+
+    @Test
+    @DisplayName("should reject a tenant over its per-second quota without affecting others")
+    void shouldLimitRatePerTenant() {
+        assertThat(quotas.tryAcquire(TenantId.of("free")).admitted()).isTrue();
+        assertThat(quotas.tryAcquire(TenantId.of("free")).admitted()).isTrue();
+
+        TenantQuotas.Decision rejected = quotas.tryAcquire(TenantId.of("free"));
+        assertThat(rejected.outcome()).isEqualTo(TenantQuotas.Outcome.RATE_EXCEEDED);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(quotas.tryAcquire(TenantId.of("capped")).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject a tenant over its daily quota and report usage")
+    void shouldLimitDailyRequests() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(quotas.tryAcquire(TenantId.of("capped")).admitted()).isTrue();
+        }
+
+        TenantQuotas.Decision rejected = quotas.tryAcquire(TenantId.of("capped"));
+        assertThat(rejected.outcome()).isEqualTo(TenantQuotas.Outcome.DAILY_EXCEEDED);
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 86_400L);
+        assertThat(quotas.status(TenantId.of("capped")).requestsToday()).isEqualTo(3);
+    }
+}
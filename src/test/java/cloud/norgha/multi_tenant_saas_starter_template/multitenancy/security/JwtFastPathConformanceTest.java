@@ -0,0 +1,157 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the HS256 fast path accepts and decodes tokens exactly as jjwt does.
+ */
+class JwtFastPathConformanceTest {
+
+    private final javax.crypto.SecretKey key = Keys.hmacShaKeyFor(
+            "conformance-secret-key-long-enough-for-hs512-signatures-0123456789".getBytes(StandardCharsets.UTF_8));
+    private final JwtTokenService tokenService = new JwtTokenService(key, 3600);
+
+    private void assertSameAsJjwt(String token) {
+        Claims claims = tokenService.parseAndValidate(token).getPayload();
+        VerifiedToken verified = tokenService.verify(token);
+
+        List<String> expectedAuthorities = new java.util.ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get("roles", List.class);
+        @SuppressWarnings("unchecked")
+        List<String> permissions = claims.get("permissions", List.class);
+        if (roles != null) {
+            roles.forEach(role -> expectedAuthorities.add("ROLE_" + role));
+        }
+        if (permissions != null) {
+            expectedAuthorities.addAll(permissions);
+        }
+
+        assertThat(verified.subject()).isEqualTo(claims.getSubject());
+        assertThat(verified.tenant()).isEqualTo(claims.get("tenant", String.class));
+        assertThat(verified.expiresAt()).isEqualTo(claims.getExpiration().toInstant());
+        assertThat(verified.authorities()).extracting(Object::toString).isEqualTo(expectedAuthorities);
+    }
+
+    private void assertBothReject(String token) {
+        assertThatThrownBy(() -> tokenService.parseAndValidate(token)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> tokenService.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("should decode issued tenant and admin tokens exactly as jjwt does")
+    void shouldMatchJjwtForIssuedTokens() {
+        assertSameAsJjwt(tokenService.generateToken("user-1", "acme-corp", List.of("USER", "ADMIN")));
+        assertSameAsJjwt(tokenService.generateTokenWithPermissions(
+                "admin-1", null, List.of("SUPER_ADMIN"), List.of("manage_tenants", "view_analytics")));
+        assertSameAsJjwt(tokenService.generateToken("user-2", "acme-corp", List.of()));
+    }
+
+    @Test
+    @DisplayName("should share one authority list per role combination and parse the user ID once")
+    void shouldInternAuthoritiesAndBuildTenantPrincipal() {
+        UUID userId = UUID.randomUUID();
+        VerifiedToken first = tokenService.verify(tokenService.generateToken(userId.toString(), "acme-corp", List.of("USER")));
+        VerifiedToken second = tokenService.verify(tokenService.generateToken("user-2", "acme-corp", List.of("USER")));
+
+        assertThat(second.authorities()).isSameAs(first.authorities());
+        assertThat(second.subjectId()).isNull();
+
+        TenantPrincipal principal = TenantPrincipal.of(first);
+        assertThat(principal.getUserId()).isEqualTo(userId);
+        assertThat(principal.getName()).isEqualTo(userId.toString());
+        assertThat(principal.getTenantId()).isEqualTo("acme-corp");
+        assertThat(principal.getAuthorities()).isSameAs(first.authorities());
+        assertThatThrownBy(() -> TenantPrincipal.of(second)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should decode escapes and skip unknown nested claims like jjwt")
+    void shouldMatchJjwtForEscapedAndNestedClaims() {
+        String token = Jwts.builder()
+                .subject("us\"er/\u00e9\u2603\uD83D\uDE00\n")
+                .claim("tenant", "acme-corp")
+                .claim("roles", List.of("R\u00d8LE", "with \\ backslash"))
+                .claim("extra", Map.of("nested", List.of(1, 2.5, true, Map.of("x", "y")), "none", ""))
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        assertSameAsJjwt(token);
+    }
+
+    @Test
+    @DisplayName("should reject tampered, expired and malformed tokens like jjwt")
+    void shouldRejectInvalidTokensLikeJjwt() {
+        String token = tokenService.generateToken("user-1", "acme-corp", List.of("USER"));
+        String[] parts = token.split("\\.");
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        String elevated = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"USER\"", "\"ADMIN\"");
+        assertBothReject(parts[0] + "." + encoder.encodeToString(elevated.getBytes(StandardCharsets.UTF_8)) + "." + parts[2]);
+        assertBothReject(parts[0] + "." + parts[1] + "." + encoder.encodeToString(new byte[32]));
+        assertBothReject(parts[0] + "." + parts[1] + ".");
+        assertBothReject(encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "." + parts[1] + ".");
+        assertBothReject(parts[0] + "." + parts[1]);
+        assertBothReject("not-a-token");
+        assertBothReject(parts[0] + ".%%%." + parts[2]);
+
+        String expired = Jwts.builder()
+                .subject("user-1")
+                .claim("tenant", "acme-corp")
+                .claim("roles", List.of("USER"))
+                .expiration(Date.from(Instant.now().minusSeconds(5)))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+        assertBothReject(expired);
+    }
+
+    @Test
+    @DisplayName("should reject a correctly signed token whose header has no alg like jjwt")
+    void shouldRejectMissingAlgorithmLikeJjwt() throws Exception {
+        String token = tokenService.generateToken("user-1", "acme-corp", List.of("USER"));
+        String payload = token.split("\\.")[1];
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signingInput = encoder.encodeToString("{\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8)) + "." + payload;
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(key);
+        String signature = encoder.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+
+        assertBothReject(signingInput + "." + signature);
+    }
+
+    @Test
+    @DisplayName("should accept only HS256 even when jjwt would accept a stronger HMAC")
+    void shouldRejectOtherHmacAlgorithms() {
+        String token = Jwts.builder()
+                .subject("user-1")
+                .claim("tenant", "acme-corp")
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(key, Jwts.SIG.HS512)
+                .compact();
+
+        assertThat(tokenService.parseAndValidate(token).getPayload().getSubject()).isEqualTo("user-1");
+        assertThatThrownBy(() -> tokenService.verify(token)).isInstanceOf(UnsupportedJwtException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.SystemPermission;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.SystemPermissionRepository;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for permission bitsets in admin tokens and bit-based authorization.
+ */
+@ExtendWith(MockitoExtension.class)
+class PermissionBitsTest {
+
+    @Mock
+    private SystemPermissionRepository permissionRepository;
+
+    private PermissionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        List<SystemPermission> permissions = new java.util.ArrayList<>();
+        String[] names = {"manage_admins", "manage_tenants", "view_tenants", "view_analytics"};
+        for (int i = 0; i < names.length; i++) {
+            SystemPermission permission = Mockito.mock(SystemPermission.class);
+            when(permission.getName()).thenReturn(names[i]);
+            // Leave gaps, as deleted permissions do
+            when(permission.getBitIndex()).thenReturn(i * 40);
+            permissions.add(permission);
+        }
+        when(permissionRepository.findAll()).thenReturn(permissions);
+        registry = new PermissionRegistry(permissionRepository);
+        registry.reload();
+    }
+
+    @Test
+    @DisplayName("should round-trip permissions through the token claim")
+    void shouldRoundTripThroughToken() {
+        JwtTokenService tokenService = new JwtTokenService(
+                Keys.hmacShaKeyFor("test-secret-key-with-at-least-32-characters".getBytes(StandardCharsets.UTF_8)), 3600);
+        PermissionBits bits = registry.encode(List.of("manage_tenants", "view_analytics"));
+
+        String token = tokenService.generateTokenWithPermissionBits("admin-1", "SYSTEM", List.of("SUPER_ADMIN"), bits.encode());
+        VerifiedToken verified = tokenService.verify(token);
+
+        assertThat(verified.permissions()).isEqualTo(bits);
+        assertThat(verified.permissions().contains(registry.bitOf("manage_tenants"))).isTrue();
+        assertThat(verified.permissions().contains(registry.bitOf("manage_admins"))).isFalse();
+        assertThat(registry.authoritiesFor(verified.authorities(), verified.permissions()))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_SUPER_ADMIN", "manage_tenants", "view_analytics");
+    }
+
+    @Test
+    @DisplayName("should share one authority list per role and permission combination")
+    void shouldShareAuthorityLists() {
+        List<GrantedAuthority> roles = List.of(new SimpleGrantedAuthority("ROLE_SUPPORT"));
+
+        List<GrantedAuthority> first = registry.authoritiesFor(roles, registry.encode(List.of("view_tenants")));
+        List<GrantedAuthority> second = registry.authoritiesFor(
+                List.of(new SimpleGrantedAuthority("ROLE_SUPPORT")), PermissionBits.decode(registry.encode(List.of("view_tenants")).encode()));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("should reject unknown permission names when encoding")
+    void shouldRejectUnknownPermissions() {
+        assertThatThrownBy(() -> registry.encode(List.of("no_such_permission")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(permissionRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("should answer hasAuthority with a bit test and fall back for other authentications")
+    void shouldCheckAuthoritiesAsBits() {
+        PermissionAuthorizationManagerFactory factory = new PermissionAuthorizationManagerFactory(() -> registry);
+        SystemAdminAuthentication admin = new SystemAdminAuthentication(
+                "admin-1", List.of(), registry.encode(List.of("view_tenants")));
+        UsernamePasswordAuthenticationToken legacy = UsernamePasswordAuthenticationToken.authenticated(
+                "admin-2", null, List.of(new SimpleGrantedAuthority("manage_tenants")));
+
+        assertThat(factory.hasAuthority("view_tenants").authorize(() -> admin, null).isGranted()).isTrue();
+        assertThat(factory.hasAuthority("manage_tenants").authorize(() -> admin, null).isGranted()).isFalse();
+        assertThat(factory.hasAnyAuthority("manage_tenants", "view_tenants").authorize(() -> admin, null).isGranted()).isTrue();
+        assertThat(factory.hasAllAuthorities("manage_tenants", "view_tenants").authorize(() -> admin, null).isGranted()).isFalse();
+        assertThat(factory.hasAuthority("manage_tenants").authorize(() -> legacy, null).isGranted()).isTrue();
+        assertThat(factory.hasAuthority("view_tenants").authorize(() -> legacy, null).isGranted()).isFalse();
+    }
+}
@@ -0,0 +1,146 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.ClusterRateLimitSync;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.ratelimit.LoginAttemptThrottle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the auth endpoint rate limits and the account lockout pre-check.
+ */
+class RateLimitingFilterTest {
+
+    private MockHttpServletResponse login(RateLimitingFilter filter, String ip, String email) throws Exception {
+        return send(filter, loginRequest(new MockHttpServletRequest(), ip, email, ""));
+    }
+
+    private MockHttpServletResponse chunkedLogin(RateLimitingFilter filter, String ip, String email, String padding)
+            throws Exception {
+        // Transfer-Encoding: chunked, so no Content-Length is declared
+        MockHttpServletRequest chunked = new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        return send(filter, loginRequest(chunked, ip, email, padding));
+    }
+
+    private static MockHttpServletRequest loginRequest(MockHttpServletRequest request, String ip, String email,
+                                                       String padding) {
+        request.setMethod("POST");
+        request.setRequestURI("/api/v1/admin/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"secret\"" + padding + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse send(RateLimitingFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (chain.getRequest() != null) {
+            // The body read for the email rule must still reach the controller
+            assertThat(chain.getRequest().getInputStream().readAllBytes()).isEqualTo(request.getContentAsByteArray());
+        }
+        return response;
+    }
+
+    private LoginAttemptThrottle newThrottle() {
+        return new LoginAttemptThrottle(null, 3, 30, 900, 900, 1_000, false);
+    }
+
+    @Test
+    @DisplayName("should reject an IP once its bucket is empty and report RateLimit headers")
+    void shouldLimitByIp() throws Exception {
+        RateLimitingFilter filter = new RateLimitingFilter(new ClusterRateLimitSync(null, 0, 1_000), newThrottle(), 2, 60, 0, 60, 0, 60, 1_000);
+
+        MockHttpServletResponse first = login(filter, "10.0.0.1", "a@example.com");
+        MockHttpServletResponse second = login(filter, "10.0.0.1", "b@example.com");
+        MockHttpServletResponse third = login(filter, "10.0.0.1", "c@example.com");
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("RateLimit-Limit")).isEqualTo("2");
+        assertThat(first.getHeader("RateLimit-Remaining")).isEqualTo("1");
+        assertThat(second.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(third.getHeader("Retry-After"))).isBetween(1L, 30L);
+        assertThat(login(filter, "10.0.0.2", "a@example.com").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("should limit logins to one email across rotating IPs")
+    void shouldLimitByEmail() throws Exception {
+        RateLimitingFilter filter = new RateLimitingFilter(new ClusterRateLimitSync(null, 0, 1_000), newThrottle(), 100, 60, 0, 60, 2, 300, 1_000);
+
+        assertThat(login(filter, "10.0.0.1", "Victim@Example.com").getStatus()).isEqualTo(200);
+        assertThat(login(filter, "10.0.0.2", "victim@example.com").getStatus()).isEqualTo(200);
+        assertThat(login(filter, "10.0.0.3", "victim@example.com").getStatus()).isEqualTo(429);
+        assertThat(login(filter, "10.0.0.4", "other@example.com").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("should apply the email limit to chunked login bodies")
+    void shouldLimitChunkedLoginsByEmail() throws Exception {
+        RateLimitingFilter filter = new RateLimitingFilter(new ClusterRateLimitSync(null, 0, 1_000), newThrottle(), 100, 60, 0, 60, 2, 300, 1_000);
+
+        assertThat(chunkedLogin(filter, "10.0.0.1", "victim@example.com", "").getStatus()).isEqualTo(200);
+        assertThat(chunkedLogin(filter, "10.0.0.2", "victim@example.com", "").getStatus()).isEqualTo(200);
+        assertThat(chunkedLogin(filter, "10.0.0.3", "victim@example.com", "").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("should reject oversized login bodies, declared or chunked, before the controller")
+    void shouldRejectOversizedLoginBodies() throws Exception {
+        RateLimitingFilter filter = new RateLimitingFilter(new ClusterRateLimitSync(null, 0, 1_000), newThrottle(), 100, 60, 0, 60, 2, 300, 1_000);
+        String padding = ",\"padding\":\"" + "x".repeat(8 * 1024) + "\"";
+
+        MockHttpServletResponse declared = send(filter,
+                loginRequest(new MockHttpServletRequest(), "10.0.0.1", "victim@example.com", padding));
+        MockHttpServletResponse chunked = chunkedLogin(filter, "10.0.0.2", "victim@example.com", padding);
+
+        assertThat(declared.getStatus()).isEqualTo(413);
+        assertThat(chunked.getStatus()).isEqualTo(413);
+        assertThat(chunked.getContentAsString()).contains("\"status\":413");
+    }
+
+    @Test
+    @DisplayName("should lock an account with doubling lockouts and reject it before the controller")
+    void shouldLockAccountAfterRepeatedFailures() throws Exception {
+        LoginAttemptThrottle throttle = newThrottle();
+        RateLimitingFilter filter = new RateLimitingFilter(new ClusterRateLimitSync(null, 0, 1_000), throttle, 100, 60, 0, 60, 0, 300, 1_000);
+        String key = LoginAttemptThrottle.key(null, " Victim@Example.com");
+
+        throttle.recordFailure(key);
+        throttle.recordFailure(key);
+        assertThat(throttle.lockedForSeconds(key)).isZero();
+        throttle.recordFailure(key);
+        assertThat(throttle.lockedForSeconds(key)).isBetween(29L, 30L);
+        throttle.recordFailure(key);
+        assertThat(throttle.lockedForSeconds(key)).isBetween(59L, 60L);
+
+        MockHttpServletResponse locked = login(filter, "10.0.0.9", "victim@example.com");
+        assertThat(locked.getStatus()).isEqualTo(429);
+        assertThat(locked.getHeader("Retry-After")).isIn("59", "60");
+        assertThat(login(filter, "10.0.0.9", "other@example.com").getStatus()).isEqualTo(200);
+
+        throttle.recordSuccess(key);
+        assertThat(throttle.lockedForSeconds(key)).isZero();
+        throttle.applyRemote(key, 3, System.currentTimeMillis() + 10_000);
+        assertThat(throttle.lockedForSeconds(key)).isBetween(9L, 10L);
+    }
+}
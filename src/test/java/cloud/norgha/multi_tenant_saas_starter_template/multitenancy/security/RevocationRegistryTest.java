@@ -0,0 +1,91 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.cache.InProcessInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for user and tenant revocation epochs.
+ */
+@ExtendWith(MockitoExtension.class)
+class RevocationRegistryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final InProcessInvalidationBus invalidationBus = new InProcessInvalidationBus();
+
+    @Test
+    @DisplayName("should reject tokens issued at or before the user's epoch only")
+    void shouldRejectTokensIssuedBeforeUserEpoch() {
+        Instant epoch = Instant.parse("2026-01-01T12:00:00Z");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), any(), any()))
+                .thenReturn(Timestamp.from(epoch));
+        RevocationRegistry registry = new RevocationRegistry(jdbcTemplate, invalidationBus, 3600, 0);
+
+        registry.revokeUser("user-1");
+
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch.minusSeconds(60)))).isTrue();
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch))).isTrue();
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch.plusSeconds(1)))).isFalse();
+        assertThat(registry.isRevoked(token("user-2", "acme-corp", epoch.minusSeconds(60)))).isFalse();
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", null))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject every user's token issued before the tenant's epoch")
+    void shouldRejectTokensIssuedBeforeTenantEpoch() {
+        Instant epoch = Instant.parse("2026-01-01T12:00:00Z");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), any(), any()))
+                .thenReturn(Timestamp.from(epoch));
+        RevocationRegistry registry = new RevocationRegistry(jdbcTemplate, invalidationBus, 3600, 0);
+
+        registry.revokeTenant("ACME-Corp");
+
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch.minusSeconds(60)))).isTrue();
+        assertThat(registry.isRevoked(token("user-2", "acme-corp", epoch.minusSeconds(60)))).isTrue();
+        assertThat(registry.isRevoked(token("user-1", "globex", epoch.minusSeconds(60)))).isFalse();
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep enforcing known epochs when a reload fails")
+    void shouldKeepEpochsWhenReloadFails() {
+        Instant epoch = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class), any(), any()))
+                .thenReturn(Timestamp.from(epoch));
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Timestamp.class));
+        RevocationRegistry registry = new RevocationRegistry(jdbcTemplate, invalidationBus, 3600, 0);
+        registry.revokeUser("user-1");
+
+        assertThatThrownBy(registry::reload).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(registry.isRevoked(token("user-1", "acme-corp", epoch.minusSeconds(60)))).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    private VerifiedToken token(String subject, String tenant, Instant issuedAt) {
+        return new VerifiedToken(subject, null, tenant, List.of(), null, issuedAt,
+                Instant.parse("2026-01-01T13:00:00Z"));
+    }
+}
@@ -0,0 +1,70 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the verified access token cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private final JwtTokenService tokenService = Mockito.spy(new JwtTokenService(
+            Keys.hmacShaKeyFor("test-secret-key-with-at-least-32-characters".getBytes(StandardCharsets.UTF_8)), 3600));
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(tokenService, 100);
+
+    @Test
+    @DisplayName("should verify a repeated token only once")
+    void shouldVerifyRepeatedTokenOnce() {
+        String token = tokenService.generateToken("user-1", "acme-corp", List.of("USER"));
+
+        VerifiedToken first = cache.verify(token);
+        VerifiedToken second = cache.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.subject()).isEqualTo("user-1");
+        assertThat(first.tenant()).isEqualTo("acme-corp");
+        assertThat(first.authorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        verify(tokenService, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("should reject a forged payload reusing a cached signature")
+    void shouldRejectForgedPayloadWithCachedSignature() {
+        String token = tokenService.generateToken("user-1", "acme-corp", List.of("USER"));
+        String other = tokenService.generateToken("user-2", "acme-corp", List.of("ADMIN"));
+        cache.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forged = other.substring(0, other.lastIndexOf('.') + 1) + parts[2];
+
+        assertThatThrownBy(() -> cache.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("should drop cached tokens by subject and by tenant")
+    void shouldInvalidateBySubjectAndTenant() {
+        cache.verify(tokenService.generateToken("user-1", "acme-corp", List.of("USER")));
+        cache.verify(tokenService.generateToken("user-2", "acme-corp", List.of("USER")));
+        cache.verify(tokenService.generateToken("user-3", "globex", List.of("USER")));
+
+        cache.invalidateSubject("user-1");
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.invalidateTenant("acme-corp");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
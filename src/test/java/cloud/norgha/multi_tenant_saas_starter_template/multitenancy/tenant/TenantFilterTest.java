@@ -0,0 +1,72 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.metrics.TenantMetrics;
+import cloud.norgha.multi_tenant_saas_starter_template.multitenancy.persistence.HibernateTenantFilterConfigurer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the tenant filter's per-request metrics, for plain and async requests.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantFilterTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private HibernateTenantFilterConfigurer filterConfigurer;
+
+    @Mock
+    private TenantMetrics tenantMetrics;
+
+    private TenantFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        TenantRegistry registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, null));
+        filter = new TenantFilter(
+                TenantRegistryFixtures.newResolver(registry, new HeaderTenantResolutionStrategy()),
+                filterConfigurer, tenantMetrics, false);
+        request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.addHeader(TenantResolver.TENANT_HEADER, "acme");
+        request.setAsyncSupported(true);
+    }
+
+    @Test
+    @DisplayName("should record a request when the chain returns")
+    void shouldRecordSyncRequest() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        verify(tenantMetrics).record(eq(TenantId.of("acme")), anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("should record an async request only when it completes, with its final status")
+    void shouldRecordAsyncRequestOnCompletion() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        verify(tenantMetrics, never()).record(eq(TenantId.of("acme")), anyLong(), anyBoolean());
+        response.setStatus(503);
+        request.getAsyncContext().complete();
+        verify(tenantMetrics).record(eq(TenantId.of("acme")), anyLong(), eq(true));
+    }
+}
@@ -0,0 +1,45 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantInvalidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TenantId canonicalisation and interning.
+ */
+class TenantIdTest {
+
+    @Test
+    @DisplayName("should return lowercase input without copying")
+    void shouldNotCopyCanonicalInput() {
+        String raw = "acme-corp_1";
+        assertThat(TenantId.canonicalize(raw)).isSameAs(raw);
+    }
+
+    @Test
+    @DisplayName("should lowercase mixed-case input")
+    void shouldLowercase() {
+        assertThat(TenantId.canonicalize("Acme-Corp")).isEqualTo("acme-corp");
+    }
+
+    @Test
+    @DisplayName("should reject invalid characters and oversized IDs")
+    void shouldRejectInvalid() {
+        assertThat(TenantId.canonicalize("tenant<script>")).isNull();
+        assertThat(TenantId.canonicalize("t\u00e9nant")).isNull();
+        assertThat(TenantId.canonicalize("a".repeat(TenantId.MAX_LENGTH + 1))).isNull();
+        assertThatThrownBy(() -> TenantId.of("bad tenant"))
+                .isInstanceOf(TenantInvalidException.class);
+    }
+
+    @Test
+    @DisplayName("should intern canonical instances")
+    void shouldIntern() {
+        assertThat(TenantId.of("ACME")).isSameAs(TenantId.of("acme"));
+        assertThat(TenantId.of("acme").matches("acme")).isTrue();
+        assertThat(TenantId.of("acme").matches("ACME")).isFalse();
+    }
+}
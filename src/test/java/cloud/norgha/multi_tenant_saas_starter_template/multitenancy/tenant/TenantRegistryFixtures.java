@@ -0,0 +1,35 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds tenant registries and resolvers for unit tests, loading synchronously from a mocked repository.
+ */
+public final class TenantRegistryFixtures {
+
+    public static final int MISS_LOOKUPS_PER_SECOND = 5;
+
+    private TenantRegistryFixtures() {
+    }
+
+    public static TenantRegistry newRegistry(TenantRepository tenantRepository) {
+        return newRegistry(tenantRepository, MISS_LOOKUPS_PER_SECOND);
+    }
+
+    public static TenantRegistry newRegistry(TenantRepository tenantRepository, int missLookupsPerSecond) {
+        AsyncLoadingCache<String, TenantSnapshot> tenantCache = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .buildAsync(tenantId -> tenantRepository.findById(tenantId).map(TenantSnapshot::from).orElse(null));
+        return new TenantRegistry(tenantRepository, tenantCache, 0, true, missLookupsPerSecond, 2, 60, 1000, 300);
+    }
+
+    public static TenantResolver newResolver(TenantRegistry registry, TenantResolutionStrategy... strategies) {
+        List<String> names = Arrays.stream(strategies).map(TenantResolutionStrategy::name).toList();
+        return new TenantResolver(registry, List.of(strategies), names);
+    }
+}
@@ -0,0 +1,160 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantDeactivatedException;
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantLookupUnavailableException;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.entity.Tenant;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TenantRegistry: in-memory lookups, bounded miss loading and the negative cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantRegistryTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+    }
+
+    @Test
+    @DisplayName("should load active and inactive tenants")
+    void shouldLoadAllTenants() {
+        Tenant inactive = new Tenant("closed", "Closed Inc");
+        inactive.setActive(false);
+        when(tenantRepository.findByActiveTrue()).thenReturn(List.of(new Tenant("acme", "Acme")));
+        when(tenantRepository.findByActiveFalse()).thenReturn(List.of(inactive));
+
+        registry.reload();
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.get("acme").active()).isTrue();
+        assertThat(registry.get("closed").active()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should serve registered tenants without database access")
+    void shouldServeFromMemory() {
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, null));
+
+        assertThat(registry.lookup("acme").name()).isEqualTo("Acme");
+        verify(tenantRepository, never()).findById("acme");
+    }
+
+    @Test
+    @DisplayName("should load and register a tenant on a miss")
+    void shouldLoadOnMiss() {
+        when(tenantRepository.findById("new-tenant")).thenReturn(Optional.of(new Tenant("new-tenant", "New")));
+
+        assertThat(registry.lookup("new-tenant")).isNotNull();
+        assertThat(registry.get("new-tenant")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should not query the database again for a known-unknown tenant")
+    void shouldCacheUnknownTenant() {
+        assertThat(registry.lookup("ghost")).isNull();
+        assertThat(registry.lookup("ghost")).isNull();
+
+        verify(tenantRepository, times(1)).findById("ghost");
+    }
+
+    @Test
+    @DisplayName("should stop loading misses once the per-second budget is spent")
+    void shouldBoundMissLookups() {
+        int unavailable = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                registry.lookup("random-" + i);
+            } catch (TenantLookupUnavailableException ex) {
+                unavailable++;
+            }
+        }
+
+        verify(tenantRepository, atMost(TenantRegistryFixtures.MISS_LOOKUPS_PER_SECOND * 2)).findById(anyString());
+        assertThat(unavailable).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("should report an unchecked tenant as unavailable rather than not found")
+    void shouldReportUncheckedTenantAsUnavailable() {
+        TenantResolver resolver = TenantRegistryFixtures.newResolver(
+                TenantRegistryFixtures.newRegistry(tenantRepository, 0), new HeaderTenantResolutionStrategy());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-ID", "real-tenant");
+
+        assertThatThrownBy(() -> resolver.resolveTenant(request))
+                .isInstanceOf(TenantLookupUnavailableException.class)
+                .extracting(ex -> ((TenantLookupUnavailableException) ex).getRetryAfterSeconds())
+                .isEqualTo(1L);
+        verify(tenantRepository, never()).findById("real-tenant");
+    }
+
+    @Test
+    @DisplayName("should serve a snapshot whose reload failed only up to the staleness bound")
+    void shouldBoundStalenessAfterFailedReload() {
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, null));
+        when(tenantRepository.findById("acme")).thenThrow(new IllegalStateException("database down"));
+
+        registry.refresh("acme");
+
+        assertThat(registry.lookup("acme").active()).isTrue();
+        assertThatThrownBy(() -> registry.lookup("acme", System.nanoTime() + TimeUnit.SECONDS.toNanos(301)))
+                .isInstanceOf(TenantLookupUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("should re-verify a snapshot past the staleness bound once the database answers")
+    void shouldReverifyStaleSnapshot() {
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, null));
+        Tenant deactivated = new Tenant("acme", "Acme");
+        deactivated.setActive(false);
+        when(tenantRepository.findById("acme"))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(Optional.of(deactivated));
+
+        registry.refresh("acme");
+        TenantSnapshot reverified = registry.lookup("acme", System.nanoTime() + TimeUnit.SECONDS.toNanos(301));
+
+        assertThat(reverified.active()).isFalse();
+        assertThat(registry.lookup("acme").active()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject deactivated tenant in resolver")
+    void shouldRejectDeactivatedTenant() {
+        registry.put(new TenantSnapshot(TenantId.of("closed"), "Closed Inc", false, null, null));
+        TenantResolver resolver = TenantRegistryFixtures.newResolver(registry, new HeaderTenantResolutionStrategy());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-ID", "closed");
+
+        assertThatThrownBy(() -> resolver.resolveTenant(request))
+                .isInstanceOf(TenantDeactivatedException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package cloud.norgha.multi_tenant_saas_starter_template.multitenancy.tenant;
+
+import cloud.norgha.multi_tenant_saas_starter_template.infrastructure.exception.TenantMissingException;
+import cloud.norgha.multi_tenant_saas_starter_template.modules.admin.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the tenant resolution strategies and the custom-domain index.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantResolutionStrategyTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantRegistry registry;
+    private TenantResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        registry = TenantRegistryFixtures.newRegistry(tenantRepository);
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, "acme.com"));
+        registry.put(new TenantSnapshot(TenantId.of("acme-eu"), "Acme EU", true, null, "eu.acme.com"));
+        registry.put(new TenantSnapshot(TenantId.of("globex"), "Globex", true, null, null));
+        resolver = TenantRegistryFixtures.newResolver(registry,
+                new HeaderTenantResolutionStrategy(),
+                new CustomDomainTenantResolutionStrategy(registry),
+                new SubdomainTenantResolutionStrategy("app.example.com"),
+                new PathPrefixTenantResolutionStrategy("/t/"));
+    }
+
+    @Test
+    @DisplayName("should match custom domains on label boundaries, longest suffix first")
+    void shouldMatchCustomDomains() {
+        assertThat(registry.findByDomain("acme.com").id().value()).isEqualTo("acme");
+        assertThat(registry.findByDomain("WWW.Acme.com.").id().value()).isEqualTo("acme");
+        assertThat(registry.findByDomain("api.eu.acme.com").id().value()).isEqualTo("acme-eu");
+        assertThat(registry.findByDomain("notacme.com")).isNull();
+        assertThat(registry.findByDomain("com")).isNull();
+    }
+
+    @Test
+    @DisplayName("should drop a custom domain when the tenant changes it")
+    void shouldReindexOnUpdate() {
+        registry.put(new TenantSnapshot(TenantId.of("acme"), "Acme", true, null, "acme.io"));
+
+        assertThat(registry.findByDomain("acme.com")).isNull();
+        assertThat(registry.findByDomain("acme.io").id().value()).isEqualTo("acme");
+    }
+
+    @Test
+    @DisplayName("should try strategies in order")
+    void shouldResolveInOrder() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("globex.app.example.com");
+        assertThat(resolver.resolveTenant(request).value()).isEqualTo("globex");
+
+        request.setServerName("shop.acme.com");
+        assertThat(resolver.resolveTenant(request).value()).isEqualTo("acme");
+
+        request.addHeader("X-Tenant-ID", "globex");
+        assertThat(resolver.resolveTenant(request).value()).isEqualTo("globex");
+    }
+
+    @Test
+    @DisplayName("should strip the tenant path prefix from the request")
+    void shouldStripPathPrefix() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/t/acme/api/v1/users");
+        request.setServerName("localhost");
+
+        TenantResolution resolution = resolver.resolve(request);
+
+        assertThat(resolution.tenant().value()).isEqualTo("acme");
+        assertThat(resolution.request().getRequestURI()).isEqualTo("/api/v1/users");
+        assertThat(resolution.request().getServletPath()).isEqualTo("/api/v1/users");
+    }
+
+    @Test
+    @DisplayName("should report every strategy tried when none applies")
+    void shouldThrowWhenNoStrategyApplies() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.setServerName("localhost");
+
+        assertThatThrownBy(() -> resolver.resolveTenant(request))
+                .isInstanceOf(TenantMissingException.class)
+                .hasMessageContaining("header, custom-domain, subdomain, path-prefix");
+    }
+}